@@ -0,0 +1,99 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * BenchmarkRunner class - Runs one benchmark set and keeps its JSON results per commit
+ * Results go to &lt;bench.output&gt;/&lt;bench.name&gt;_&lt;commit&gt;.json and &lt;bench.name&gt;_latest.json;
+ * with -Dbench.baseline=&lt;file&gt; every score is compared against that earlier run.
+ * Extra arguments are passed to JMH (e.g. -f 2 -wi 5).
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        String include = System.getProperty("bench.include", "benchmarks.FrameworkBenchmark");
+        String name = System.getProperty("bench.name", "framework");
+        Path outputDir = Paths.get(System.getProperty("bench.output", "./test-output/benchmarks/"));
+        Files.createDirectories(outputDir);
+        Path result = outputDir.resolve(name + "_" + gitCommit() + ".json");
+
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(include)
+            .resultFormat(ResultFormatType.JSON)
+            .result(result.toString())
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Files.copy(result, outputDir.resolve(name + "_latest.json"), StandardCopyOption.REPLACE_EXISTING);
+        System.out.println("✓ Benchmark results saved: " + result);
+
+        String baseline = System.getProperty("bench.baseline", "").trim();
+        if (!baseline.isEmpty()) {
+            compare(Paths.get(baseline), results);
+        }
+    }
+
+    /**
+     * Print each score next to the baseline's; lower is better for the average-time modes used here
+     */
+    @SuppressWarnings("unchecked")
+    private static void compare(Path baseline, Collection<RunResult> results) throws Exception {
+        Map<String, Double> previous = new TreeMap<>();
+        List<Map<String, Object>> entries = new Json().toType(
+            new String(Files.readAllBytes(baseline), StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+        for (Map<String, Object> entry : entries) {
+            Map<String, Object> metric = (Map<String, Object>) entry.get("primaryMetric");
+            previous.put((String) entry.get("benchmark"), ((Number) metric.get("score")).doubleValue());
+        }
+
+        System.out.println("\nCompared with " + baseline + ":");
+        for (RunResult run : results) {
+            String benchmark = run.getParams().getBenchmark();
+            double score = run.getPrimaryResult().getScore();
+            Double before = previous.get(benchmark);
+            if (before == null || before == 0) {
+                System.out.println(String.format("  %-60s %12.3f %s (new)", benchmark, score,
+                    run.getPrimaryResult().getScoreUnit()));
+                continue;
+            }
+            double change = (score - before) / before * 100;
+            System.out.println(String.format("  %s %-60s %12.3f %s (%+.1f%%)", change > 10 ? "✗" : "✓",
+                benchmark, score, run.getPrimaryResult().getScoreUnit(), change));
+        }
+    }
+
+    private static String gitCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String commit = reader.readLine();
+                if (process.waitFor() == 0 && commit != null && !commit.isEmpty()) {
+                    return commit.trim();
+                }
+            }
+        } catch (Exception e) {
+            // Not a git checkout
+        }
+        return "local";
+    }
+}
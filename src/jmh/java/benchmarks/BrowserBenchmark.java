@@ -0,0 +1,92 @@
+package benchmarks;
+
+import base.PageRegistry;
+import base.PageSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import pages.CartPage;
+import server.LocalSauceServer;
+import utils.ConfigReader;
+import utils.DriverFactory;
+import utils.ScreenshotUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BrowserBenchmark class - The same hot paths against headless Chrome
+ * The browser is parked on the cart page of the embedded LocalSauceServer with six items,
+ * so scores include the WebDriver round-trip but no network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dtarget=local", "-Dheadless=true", "-Dmetrics.enabled=false",
+    "-Dconfig.watch=false"})
+public class BrowserBenchmark {
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalSauceServer.startIfLocal();
+        ConfigReader config = ConfigReader.getInstance();
+        driver = DriverFactory.createDriver(config);
+
+        String baseUrl = config.getUrl();
+        driver.get(baseUrl);
+        driver.manage().addCookie(new Cookie("session-username", "standard_user"));
+        ((JavascriptExecutor) driver).executeScript(
+            "window.localStorage.setItem('cart-contents', '[4,0,1,5,2,3]');");
+        driver.get(baseUrl + "cart.html");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+        LocalSauceServer.stop();
+    }
+
+    @Benchmark
+    public CartPage pageConstruct() {
+        return new CartPage(driver);
+    }
+
+    @Benchmark
+    public String findElementText() {
+        return driver.findElement(By.className("title")).getText();
+    }
+
+    @Benchmark
+    public PageSnapshot snapshotCapture() {
+        return PageSnapshot.capture(driver);
+    }
+
+    /**
+     * Cart total as a test reads it after navigating to the cart (see FrameworkBenchmark)
+     */
+    @Benchmark
+    public double cartTotalPrice() {
+        return PageRegistry.get(driver, CartPage.class).getTotalPrice();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String screenshotBase64() {
+        return ScreenshotUtil.captureBase64Screenshot(driver);
+    }
+}
@@ -0,0 +1,221 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * FakeDriver class - In-process WebDriver that answers from canned data
+ * Lets benchmarks measure the framework's own cost with no browser or HTTP round-trip.
+ * Count queries see one element per cart item, other scripts return a cart page snapshot,
+ * screenshots a fixed PNG-sized payload.
+ */
+public class FakeDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+    // Typical size of a 1920x1080 headless screenshot
+    private static final int SCREENSHOT_BYTES = 150 * 1024;
+
+    private final byte[] screenshot = new byte[SCREENSHOT_BYTES];
+    private final Map<String, Object> snapshot = new LinkedHashMap<>();
+    private final long itemCount;
+
+    public FakeDriver() {
+        new Random(42).nextBytes(screenshot);
+
+        List<String> names = Arrays.asList("Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt",
+            "Sauce Labs Fleece Jacket", "Sauce Labs Onesie", "Test.allTheThings() T-Shirt (Red)");
+        snapshot.put("title", "Your Cart");
+        snapshot.put("itemNames", names);
+        snapshot.put("prices", Arrays.asList("$29.99", "$9.99", "$15.99", "$49.99", "$7.99", "$15.99"));
+        snapshot.put("quantities", Collections.nCopies(names.size(), "1"));
+        snapshot.put("badgeCount", (long) names.size());
+        snapshot.put("errorText", "");
+        itemCount = names.size();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        // Conditions.present / elementCount, e.g. a page's ready check
+        if (script.startsWith("return document.querySelectorAll(")) {
+            return itemCount;
+        }
+        return new LinkedHashMap<>(snapshot);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return executeScript(script, args);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return target.convertFromPngBytes(screenshot);
+    }
+
+    @Override
+    public void get(String url) {
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "http://localhost/cart.html";
+    }
+
+    @Override
+    public String getTitle() {
+        return "Swag Labs";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return Collections.singletonList(new FakeElement("Your Cart"));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return new FakeElement("Your Cart");
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("main");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "main";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage");
+    }
+
+    /**
+     * Element with fixed text that is always displayed and enabled
+     */
+    private static class FakeElement implements WebElement {
+        private final String text;
+
+        private FakeElement(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public String getTagName() {
+            return "div";
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return Collections.singletonList(this);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return this;
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(100, 20);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            throw new UnsupportedOperationException("element screenshot");
+        }
+    }
+}
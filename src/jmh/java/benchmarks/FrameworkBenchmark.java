@@ -0,0 +1,163 @@
+package benchmarks;
+
+import base.PageBindings;
+import base.PageRegistry;
+import base.PageSnapshot;
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+import pages.CartPage;
+import utils.ConfigReader;
+import utils.ScreenshotUtil;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FrameworkBenchmark class - Cost of the framework's hot paths against FakeDriver
+ * Nothing here talks to a browser, so scores are pure framework overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Dconfig.watch=false"})
+public class FrameworkBenchmark {
+    private WebDriver driver;
+    private ConfigReader config;
+    private PrintStream stdout;
+    private ExtentReports extent;
+    private ExtentTest sharedTest;
+    private CartPage cartPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = new FakeDriver();
+        config = ConfigReader.getInstance();
+        extent = new ExtentReports();
+        cartPage = new CartPage(driver);
+        // Page methods log each step; printing would dominate nanosecond scores
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Setup(Level.Iteration)
+    public void newReportNode() {
+        // A fresh node per iteration keeps the log list from growing across the run
+        if (sharedTest != null) {
+            extent.removeTest(sharedTest);
+        }
+        sharedTest = extent.createTest("shared");
+    }
+
+    /**
+     * One report node per thread, as in a parallel run
+     */
+    @State(Scope.Thread)
+    public static class ThreadNode {
+        private ExtentTest test;
+
+        @Setup(Level.Iteration)
+        public void setUp(FrameworkBenchmark benchmark) {
+            if (test != null) {
+                benchmark.extent.removeTest(test);
+            }
+            test = benchmark.extent.createTest(Thread.currentThread().getName());
+        }
+    }
+
+    @Benchmark
+    public CartPage pageConstruct() {
+        return new CartPage(driver);
+    }
+
+    /**
+     * Navigation to an already visited page, as page objects now get it from the registry
+     */
+    @Benchmark
+    public CartPage pageFromRegistry() {
+        return PageRegistry.get(driver, CartPage.class);
+    }
+
+    /**
+     * Element binding alone, with the generated CartPage_Bindings
+     */
+    @Benchmark
+    public CartPage bindGenerated() {
+        PageBindings.bind(cartPage, driver);
+        return cartPage;
+    }
+
+    /**
+     * Element binding alone, with reflection and proxies as before
+     */
+    @Benchmark
+    public CartPage bindPageFactory() {
+        PageFactory.initElements(driver, cartPage);
+        return cartPage;
+    }
+
+    @Benchmark
+    public String configGetProperty() {
+        return config.getProperty("browser");
+    }
+
+    @Benchmark
+    public int configGetInt() {
+        return config.getInt("implicit.wait", 20);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ExtentTest extentLogSharedNode() {
+        return sharedTest.log(Status.INFO, "Step 1: Verify cart page is displayed");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ExtentTest extentLogPerThreadNode(ThreadNode node) {
+        return node.test.log(Status.INFO, "Step 1: Verify cart page is displayed");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String screenshotBase64() {
+        return ScreenshotUtil.captureBase64Screenshot(driver);
+    }
+
+    @Benchmark
+    public PageSnapshot snapshotCapture() {
+        return PageSnapshot.capture(driver);
+    }
+
+    /**
+     * Cart total as a test reads it after navigating to the cart: page from the registry,
+     * ready check, snapshot and price parsing in CartPage.getTotalPrice
+     */
+    @Benchmark
+    public double cartTotalPrice() {
+        return PageRegistry.get(driver, CartPage.class).getTotalPrice();
+    }
+}
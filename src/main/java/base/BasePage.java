@@ -1,118 +1,138 @@
-/*
-
 package base;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import utils.CommandMetrics;
+import utils.ConfigReader;
+import utils.ExtentManager;
 
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
 
 public class BasePage {
+    // Fixed sleeps a click used to pay
+    protected static final long CLICK_SLEEP_MILLIS = 800;
+
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected WaitEngine waits;
     protected JavascriptExecutor js;
+    private PageSnapshot snapshot;
+    private ItemIndex itemIndex;
+    private String itemIndexRows;
+    private ElementCache elementCache;
+    private Duration implicitWait;
+    // Whether readyCondition() held since this page was (re)loaded
+    private boolean ready;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = new WebDriverWait(driver,
+            ConfigReader.getInstance().getDuration("explicit.wait", Duration.ofSeconds(20), ChronoUnit.SECONDS));
+        this.waits = new WaitEngine(driver);
         this.js = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
+        // Generated at build time from @FindBy (fields must be package-private), PageFactory otherwise
+        PageBindings.bind(this, driver);
     }
 
-    protected void click(WebElement element) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(element));
-            
-            // Scroll into view first
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
-            Thread.sleep(300);
-            
-            // Try normal click
-            element.click();
-            Thread.sleep(500); // Wait for action to complete
-            
-        } catch (Exception e) {
-            try {
-                // Fallback to JavaScript click
-                js.executeScript("arguments[0].click();", element);
-                Thread.sleep(500);
-            } catch (Exception jsEx) {
-                throw new RuntimeException("Failed to click element", jsEx);
-            }
-        }
+    /**
+     * Get the page the flow continues on, reusing this session's instance if there is one
+     */
+    protected <T extends BasePage> T page(Class<T> type) {
+        return PageRegistry.get(driver, type);
     }
 
-    protected void type(WebElement element, String text) {
-        wait.until(ExpectedConditions.visibilityOf(element));
-        element.clear();
-        element.sendKeys(text);
+    /**
+     * Called when the registry hands this page out again after a navigation
+     * Element bindings are kept; what they and the snapshot read from the previous load is dropped,
+     * and so is the cached implicit wait, which a config reload may have changed since.
+     */
+    protected void onNavigation() {
+        ready = false;
+        implicitWait = null;
+        invalidatePageState();
     }
 
-    protected String getText(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
-        return element.getText();
+    /**
+     * Condition that holds once the page has rendered the content its queries read
+     * Pages override it with a selector of their own; the default only waits for the document.
+     */
+    protected ExpectedCondition<?> readyCondition() {
+        return Conditions.documentReady();
     }
 
-    protected boolean isDisplayed(WebElement element) {
-        try {
-            return element.isDisplayed();
-        } catch (Exception e) {
-            return false;
+    /**
+     * Wait once per page load for readyCondition(), before the first snapshot or index is read
+     * If it does not hold in time the capture goes ahead and reads what is there, as getText did.
+     */
+    private void awaitReady() {
+        if (ready) {
+            return;
         }
-    }
-
-    protected boolean isEnabled(WebElement element) {
         try {
-            return element.isEnabled();
-        } catch (Exception e) {
-            return false;
+            waits.until(readyCondition(), 0, getClass().getSimpleName() + " ready");
+            ready = true;
+        } catch (TimeoutException e) {
+            System.out.println("⚠️ " + e.getMessage() + ", reading the page as it is");
         }
     }
 
-    public String getPageTitle() {
-        return driver.getTitle();
-    }
-
-    public String getCurrentUrl() {
-        return driver.getCurrentUrl();
+    /**
+     * Enhanced click with multiple retry strategies for headless mode
+     * Waits for the page to settle instead of sleeping after the click
+     */
+    protected void click(WebElement element) {
+        click(element, Conditions.documentReady());
     }
-}
-
-*/
 
-package base;
-
-import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import java.time.Duration;
-
-public class BasePage {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected JavascriptExecutor js;
+    /**
+     * Click and wait until the given post-condition holds
+     */
+    protected void click(WebElement element, ExpectedCondition<?> postCondition) {
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            performClick(element);
 
-    public BasePage(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        this.js = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
+            // Replaces the 200 + 100 + 500 ms of fixed sleeps around the click
+            waits.until(postCondition, CLICK_SLEEP_MILLIS, "click post-condition");
+        } finally {
+            // Elements found before the click are located again only if it changed the DOM structure
+            refreshPageState();
+            CommandMetrics.exitPageMethod(scope);
+        }
     }
 
     /**
-     * Enhanced click with multiple retry strategies for headless mode
+     * Click and block until the DOM mutation registered in the signal has happened
+     * @param element Element to click
+     * @param signal Expectation registered before the click
+     * @param replacedSleepMillis Page-level fixed sleep this wait replaces, on top of the click sleeps
+     * @return Value after the mutation, or null if the page navigated away
      */
-    protected void click(WebElement element) {
+    protected String click(WebElement element, DomSignal signal, long replacedSleepMillis) {
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            performClick(element);
+            return waits.await(signal, CLICK_SLEEP_MILLIS + replacedSleepMillis);
+        } finally {
+            refreshPageState();
+            CommandMetrics.exitPageMethod(scope);
+        }
+    }
+
+    private void performClick(WebElement element) {
         int attempts = 0;
-        while (attempts < 3) {
+        while (true) {
             try {
                 // Wait for element to be clickable
                 wait.until(ExpectedConditions.elementToBeClickable(element));
@@ -120,21 +140,13 @@ public class BasePage {
                 // Scroll into view with JavaScript
                 js.executeScript("arguments[0].scrollIntoView({behavior: 'instant', block: 'center'});", element);
                 
-                // Small wait after scroll
-                Thread.sleep(200);
-                
                 // Highlight element (helps in debugging)
                 js.executeScript("arguments[0].style.border='2px solid red'", element);
-                Thread.sleep(100);
                 
                 // Try standard click
                 element.click();
-                
-                // Wait for any JavaScript to complete
-                Thread.sleep(500);
-                
                 System.out.println("✓ Successfully clicked element");
-                return;
+                break;
                 
             } catch (Exception e) {
                 attempts++;
@@ -143,38 +155,155 @@ public class BasePage {
                 try {
                     // JavaScript click as fallback
                     js.executeScript("arguments[0].click();", element);
-                    Thread.sleep(500);
                     System.out.println("✓ JavaScript click successful");
-                    return;
+                    break;
                     
                 } catch (Exception jsEx) {
                     if (attempts >= 3) {
                         System.err.println("✗ All click attempts failed");
                         throw new RuntimeException("Failed to click element after " + attempts + " attempts", e);
                     }
-                    
-                    try {
-                        Thread.sleep(1000); // Wait before retry
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                    }
                 }
             }
         }
     }
 
+    /**
+     * Wait for a post-condition that replaces a fixed sleep
+     * @param condition Condition to poll
+     * @param replacedSleepMillis Fixed sleep that used to cover this step
+     * @param description Used in the timeout message
+     */
+    protected <T> T waitFor(ExpectedCondition<T> condition, long replacedSleepMillis, String description) {
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            return waits.until(condition, replacedSleepMillis, description);
+        } finally {
+            refreshPageState();
+            CommandMetrics.exitPageMethod(scope);
+        }
+    }
+
+    /**
+     * Click the button of every matching item row in one script call
+     * @param rowSelector CSS selector of one item row
+     * @param names Item names (case-insensitive), or null for every row
+     * @param buttonText Only buttons showing this text are clicked
+     */
+    protected ItemIndex.BulkClick clickRowButtons(String rowSelector, Collection<String> names, String buttonText) {
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            return ItemIndex.clickButtons(driver, rowSelector, names, buttonText);
+        } finally {
+            refreshPageState();
+            CommandMetrics.exitPageMethod(scope);
+        }
+    }
+
+    /**
+     * Wait briefly for the post-condition of a batched action
+     * @param replacedSleepMillis Fixed sleeps of the single actions the batch replaces
+     * @return false if it does not hold within bulk.verify.ms, so the caller can fall back to single actions
+     */
+    protected boolean settles(ExpectedCondition<?> condition, long replacedSleepMillis, String description) {
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            waits.withTimeout(Duration.ofMillis(ConfigReader.getInstance().getLong("bulk.verify.ms", 2000)))
+                .until(condition, replacedSleepMillis, description);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } finally {
+            refreshPageState();
+            CommandMetrics.exitPageMethod(scope);
+        }
+    }
+
     protected void type(WebElement element, String text) {
-        wait.until(ExpectedConditions.visibilityOf(element));
-        element.clear();
-        element.sendKeys(text);
+        // Typing changes values only, so cached elements stay valid; the snapshot does not
+        dropPageState();
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            wait.until(ExpectedConditions.visibilityOf(element));
+            element.clear();
+            element.sendKeys(text);
+        } finally {
+            CommandMetrics.exitPageMethod(scope);
+        }
+    }
+
+    /**
+     * Get the page state snapshot, reading it from the browser if the last action invalidated it
+     */
+    protected PageSnapshot snapshot() {
+        if (snapshot == null) {
+            String scope = CommandMetrics.enterPageMethod();
+            try {
+                awaitReady();
+                snapshot = PageSnapshot.capture(driver);
+            } finally {
+                CommandMetrics.exitPageMethod(scope);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the name index of the item rows, reading it from the browser if the last action invalidated it
+     * @param rowSelector CSS selector of one item row
+     */
+    protected ItemIndex itemIndex(String rowSelector) {
+        if (itemIndex == null || !rowSelector.equals(itemIndexRows)) {
+            String scope = CommandMetrics.enterPageMethod();
+            try {
+                awaitReady();
+                itemIndex = ItemIndex.capture(driver, rowSelector);
+                itemIndexRows = rowSelector;
+            } finally {
+                CommandMetrics.exitPageMethod(scope);
+            }
+        }
+        return itemIndex;
+    }
+
+    /**
+     * Drop the cached snapshot, item index and element references so the next query reads fresh state
+     */
+    protected void invalidatePageState() {
+        dropPageState();
+        elementCache().invalidate();
+    }
+
+    /**
+     * After an action: drop the snapshot and item index, and the element references only if the
+     * page's MutationObserver saw the DOM structure change
+     */
+    private void refreshPageState() {
+        dropPageState();
+        elementCache().sync(driver);
+    }
+
+    private void dropPageState() {
+        snapshot = null;
+        itemIndex = null;
+    }
+
+    private ElementCache elementCache() {
+        if (elementCache == null) {
+            elementCache = ElementCache.of(driver);
+        }
+        return elementCache;
     }
 
     protected String getText(WebElement element) {
+        String scope = CommandMetrics.enterPageMethod();
         try {
             wait.until(ExpectedConditions.visibilityOf(element));
             return element.getText();
         } catch (Exception e) {
             return "";
+        } finally {
+            CommandMetrics.exitPageMethod(scope);
         }
     }
 
@@ -186,6 +315,94 @@ public class BasePage {
         }
     }
 
+    /**
+     * Expect an element to be present, waiting up to the explicit wait
+     */
+    protected WebElement expectPresent(By locator) {
+        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    /**
+     * Check that an element the page should show is displayed, waiting for it with expectPresent
+     * @return false if it is not present within the explicit wait, or present but hidden
+     */
+    protected boolean isExpectedDisplayed(By locator) {
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            return expectPresent(locator).isDisplayed();
+        } catch (TimeoutException e) {
+            return false;
+        } finally {
+            CommandMetrics.exitPageMethod(scope);
+        }
+    }
+
+    /**
+     * Check if an element that may legitimately be absent is displayed
+     * Runs at zero implicit wait and polls for at most the given timeout (Duration.ZERO checks once)
+     */
+    protected boolean isMaybeDisplayed(By locator, Duration timeout) {
+        return query(locator, timeout, true);
+    }
+
+    /**
+     * Check that no matching element is displayed, or none is left within the given timeout
+     * Runs at zero implicit wait so an absent element costs milliseconds instead of the implicit wait
+     */
+    protected boolean isAbsent(By locator, Duration timeout) {
+        return query(locator, timeout, false);
+    }
+
+    private boolean query(By locator, Duration timeout, boolean expectDisplayed) {
+        String scope = CommandMetrics.enterPageMethod();
+        try {
+            return timedQuery(locator, timeout, expectDisplayed);
+        } finally {
+            CommandMetrics.exitPageMethod(scope);
+        }
+    }
+
+    private boolean timedQuery(By locator, Duration timeout, boolean expectDisplayed) {
+        long start = System.nanoTime();
+        Duration previousWait = getImplicitWait();
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+
+        boolean matched;
+        try {
+            waits.withTimeout(timeout).until(
+                d -> isAnyDisplayed(d.findElements(locator)) == expectDisplayed, 0, locator.toString());
+            matched = true;
+        } catch (TimeoutException e) {
+            matched = false;
+        } finally {
+            driver.manage().timeouts().implicitlyWait(previousWait);
+        }
+
+        long tookMillis = (System.nanoTime() - start) / 1_000_000;
+        ExtentTest test = ExtentManager.getTest();
+        if (test != null) {
+            test.log(Status.INFO, (expectDisplayed ? "Maybe-present" : "Absence") + " query " + locator
+                + ": timeout " + timeout.toMillis() + " ms, took " + tookMillis + " ms, matched " + matched);
+        }
+        return matched;
+    }
+
+    private boolean isAnyDisplayed(List<WebElement> elements) {
+        for (WebElement element : elements) {
+            if (isDisplayed(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Duration getImplicitWait() {
+        if (implicitWait == null) {
+            implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+        }
+        return implicitWait;
+    }
+
     protected boolean isEnabled(WebElement element) {
         try {
             return element.isEnabled();
@@ -206,8 +423,6 @@ public class BasePage {
      * Wait for page to be fully loaded
      */
     protected void waitForPageLoad() {
-        wait.until(driver -> 
-            ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete")
-        );
+        waits.until(Conditions.documentReady(), 0, "document ready state");
     }
 }
\ No newline at end of file
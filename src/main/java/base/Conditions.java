@@ -0,0 +1,88 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Conditions class - Post-conditions for WaitEngine
+ * DOM queries run as scripts so they never block on the implicit wait
+ */
+public class Conditions {
+
+    private static final String DOM_FINGERPRINT_SCRIPT =
+        "return document.body ? document.getElementsByTagName('*').length + ':' + document.body.innerHTML.length : '';";
+
+    private static final String TEXT_SCRIPT =
+        "var e = document.querySelector(arguments[0]); return e ? e.textContent.trim() : '';";
+
+    private static final String COUNT_SCRIPT =
+        "return document.querySelectorAll(arguments[0]).length;";
+
+    /**
+     * Document finished loading
+     */
+    public static ExpectedCondition<Boolean> documentReady() {
+        return driver -> "complete".equals(script(driver, "return document.readyState;"));
+    }
+
+    /**
+     * URL differs from the given one
+     */
+    public static ExpectedCondition<Boolean> urlChanged(String previousUrl) {
+        return driver -> !driver.getCurrentUrl().equals(previousUrl);
+    }
+
+    /**
+     * Cheap fingerprint of the current DOM, used with domChanged()
+     */
+    public static String domFingerprint(WebDriver driver) {
+        return String.valueOf(script(driver, DOM_FINGERPRINT_SCRIPT));
+    }
+
+    /**
+     * DOM fingerprint differs from the given one
+     */
+    public static ExpectedCondition<Boolean> domChanged(String previousFingerprint) {
+        return driver -> !domFingerprint(driver).equals(previousFingerprint);
+    }
+
+    /**
+     * Text of the first element matching the CSS selector equals the expected text ("" if absent)
+     */
+    public static ExpectedCondition<Boolean> textEquals(String cssSelector, String expected) {
+        return driver -> expected.equals(script(driver, TEXT_SCRIPT, cssSelector));
+    }
+
+    /**
+     * Number of elements matching the CSS selector equals the expected count
+     */
+    public static ExpectedCondition<Boolean> elementCount(String cssSelector, int expected) {
+        return driver -> ((Number) script(driver, COUNT_SCRIPT, cssSelector)).intValue() == expected;
+    }
+
+    /**
+     * At least one element matches the CSS selector
+     */
+    public static ExpectedCondition<Boolean> present(String cssSelector) {
+        return driver -> ((Number) script(driver, COUNT_SCRIPT, cssSelector)).intValue() > 0;
+    }
+
+    /**
+     * Current text of the first element matching the CSS selector ("" if absent)
+     */
+    public static String textOf(WebDriver driver, String cssSelector) {
+        return String.valueOf(script(driver, TEXT_SCRIPT, cssSelector));
+    }
+
+    /**
+     * Current number of elements matching the CSS selector
+     */
+    public static int countOf(WebDriver driver, String cssSelector) {
+        return ((Number) script(driver, COUNT_SCRIPT, cssSelector)).intValue();
+    }
+
+    private static Object script(WebDriver driver, String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+}
@@ -0,0 +1,138 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.DriverFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DomSignal class - MutationObserver bridge for post-action verification
+ * An expectation is registered in the page before the action, then awaited with a
+ * single async script call that returns as soon as the browser sees the mutation.
+ * A page-wide observer also versions the DOM structure for ElementCache.
+ */
+public class DomSignal {
+    private static final AtomicLong ids = new AtomicLong();
+
+    private static final String REGISTER_SCRIPT =
+        "var id = arguments[0], kind = arguments[1], sel = arguments[2];" +
+        "var signals = window.__domSignals = window.__domSignals || {};" +
+        "function read() {" +
+        "  if (kind === 'text') { var e = document.querySelector(sel); return e ? e.textContent.trim() : ''; }" +
+        "  return String(document.querySelectorAll(sel).length);" +
+        "}" +
+        "var initial = read();" +
+        "var s = signals[id] = { fired: false, value: initial, waiter: null };" +
+        "var observer = new MutationObserver(function () {" +
+        "  var now = read();" +
+        "  var done = kind === 'text' ? now !== initial : Number(now) < Number(initial);" +
+        "  if (done && !s.fired) {" +
+        "    s.fired = true; s.value = now; observer.disconnect();" +
+        "    if (s.waiter) { s.waiter(now); }" +
+        "  }" +
+        "});" +
+        "s.observer = observer;" +
+        "observer.observe(document.documentElement, { childList: true, subtree: true, characterData: true });" +
+        "return initial;";
+
+    // Token of the current document and a counter of its structural changes: nodes added or
+    // removed, or an id/class/name/data-test attribute changed (what locators match on)
+    private static final String EPOCH_SCRIPT =
+        "var epoch = window.__domEpoch;" +
+        "if (!epoch) {" +
+        "  epoch = window.__domEpoch = { doc: Math.random().toString(36).slice(2), value: 0 };" +
+        "  var hasElement = function (nodes) {" +
+        "    for (var i = 0; i < nodes.length; i++) { if (nodes[i].nodeType === 1) { return true; } }" +
+        "    return false;" +
+        "  };" +
+        "  new MutationObserver(function (records) {" +
+        "    for (var i = 0; i < records.length; i++) {" +
+        "      var r = records[i];" +
+        "      if (r.type === 'attributes' || hasElement(r.addedNodes) || hasElement(r.removedNodes)) { epoch.value++; return; }" +
+        "    }" +
+        "  }).observe(document.documentElement, { childList: true, subtree: true, attributes: true," +
+        "    attributeFilter: ['id', 'class', 'name', 'data-test'] });" +
+        "}" +
+        "return epoch.doc + ':' + epoch.value;";
+
+    private static final String AWAIT_SCRIPT =
+        "var id = arguments[0], timeout = arguments[1], callback = arguments[arguments.length - 1];" +
+        "var signals = window.__domSignals || {};" +
+        "var s = signals[id];" +
+        "if (!s) { callback({ lost: true }); return; }" +
+        "if (s.fired) { delete signals[id]; callback({ value: s.value }); return; }" +
+        // A timed-out expectation is dropped so its observer stops watching the page
+        "var timer = setTimeout(function () {" +
+        "  s.waiter = null; s.observer.disconnect(); delete signals[id]; callback({ timeout: true });" +
+        "}, timeout);" +
+        "s.waiter = function (value) { clearTimeout(timer); delete signals[id]; callback({ value: value }); };";
+
+    private final JavascriptExecutor js;
+    private final String id;
+    private final String description;
+    private final String initialValue;
+
+    private DomSignal(WebDriver driver, String kind, String cssSelector, String description) {
+        this.js = (JavascriptExecutor) driver;
+        this.id = "signal-" + ids.incrementAndGet();
+        this.description = description;
+        this.initialValue = String.valueOf(js.executeScript(REGISTER_SCRIPT, id, kind, cssSelector));
+    }
+
+    /**
+     * Expect the text of the first element matching the selector to change
+     */
+    public static DomSignal textChanges(WebDriver driver, String cssSelector) {
+        return new DomSignal(driver, "text", cssSelector, "text of " + cssSelector + " to change");
+    }
+
+    /**
+     * Expect at least one element matching the selector to be removed
+     */
+    public static DomSignal nodeRemoved(WebDriver driver, String cssSelector) {
+        return new DomSignal(driver, "removed", cssSelector, "a " + cssSelector + " node to be removed");
+    }
+
+    /**
+     * Structural version of the current document, observed by a MutationObserver in the page
+     * Changes when elements are added or removed, a locator attribute changes, or a new document
+     * loads; text and value changes leave it alone.
+     */
+    public static String domEpoch(WebDriver driver) {
+        return String.valueOf(((JavascriptExecutor) driver).executeScript(EPOCH_SCRIPT));
+    }
+
+    /**
+     * Value observed when the expectation was registered (text, or element count)
+     */
+    public String getInitialValue() {
+        return initialValue;
+    }
+
+    /**
+     * Block until the expected mutation has happened
+     * @param timeout Maximum time to wait; capped just below script.timeout so the page reports
+     *                the timeout before the driver aborts the script
+     * @return Value after the mutation, or null if the page navigated away
+     */
+    public String await(Duration timeout) {
+        Duration scriptTimeout = DriverFactory.getScriptTimeout(ConfigReader.getInstance());
+        Duration limit = scriptTimeout.minus(Duration.ofMillis(Math.min(1000, scriptTimeout.toMillis() / 10)));
+        if (timeout.compareTo(limit) > 0) {
+            timeout = limit;
+        }
+        Map<?, ?> result = (Map<?, ?>) js.executeAsyncScript(AWAIT_SCRIPT, id, timeout.toMillis());
+        if (Boolean.TRUE.equals(result.get("timeout"))) {
+            throw new TimeoutException("Timed out after " + timeout.getSeconds() + "s waiting for " + description);
+        }
+        if (Boolean.TRUE.equals(result.get("lost"))) {
+            return null;
+        }
+        return String.valueOf(result.get("value"));
+    }
+}
@@ -0,0 +1,11 @@
+package base;
+
+import org.openqa.selenium.SearchContext;
+
+/**
+ * ElementBinder interface - Assigns the @FindBy fields of one page class
+ * Implemented by the &lt;Page&gt;_Bindings classes generated by PageBindingProcessor.
+ */
+public interface ElementBinder<T> {
+    void bind(T page, SearchContext context);
+}
@@ -0,0 +1,157 @@
+package base;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import utils.ConfigReader;
+import utils.ExtentManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ElementCache class - Page generation of a browser session for cached element references
+ * LazyElement and LazyElementList keep the element they found together with the generation it
+ * was found in, and reuse it until the generation moves on. BasePage moves it on navigation, and
+ * after an action only if the page's MutationObserver (DomSignal.domEpoch) saw the DOM structure
+ * change; an element that went stale in between (e.g. a React re-render) is located again
+ * transparently. Hits and misses are counted per locator.
+ */
+public class ElementCache {
+    private static final Map<SearchContext, ElementCache> bySession = new ConcurrentHashMap<>();
+    private static final Map<String, LocatorStats> statsByLocator = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile String domEpoch;
+
+    private ElementCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the cache of a browser session (or any other search context)
+     */
+    public static ElementCache of(SearchContext context) {
+        ElementCache cache = bySession.get(context);
+        return cache != null ? cache : bySession.computeIfAbsent(context,
+            c -> new ElementCache(ConfigReader.getInstance().getBoolean("element.cache.enabled", true)));
+    }
+
+    /**
+     * Forget a session's cache, e.g. when the browser is closed
+     */
+    public static void release(SearchContext context) {
+        bySession.remove(context);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Start a new page generation; elements found before are located again on next use
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Start a new generation if the DOM structure changed since the last sync
+     * Costs one script call; nothing is read while the cache is disabled. If the page cannot be
+     * asked (e.g. an alert is open) the generation moves on, as before an action.
+     */
+    public void sync(WebDriver driver) {
+        if (!enabled) {
+            return;
+        }
+        String epoch;
+        try {
+            epoch = DomSignal.domEpoch(driver);
+        } catch (WebDriverException e) {
+            domEpoch = null;
+            invalidate();
+            return;
+        }
+        if (!epoch.equals(domEpoch)) {
+            domEpoch = epoch;
+            invalidate();
+        }
+    }
+
+    public static String getStats() {
+        long hits = 0;
+        long lookups = 0;
+        long stale = 0;
+        for (LocatorStats stats : statsByLocator.values()) {
+            hits += stats.hits.sum();
+            lookups += stats.hits.sum() + stats.misses.sum();
+            stale += stats.stale.sum();
+        }
+        return String.format("lookups=%d, hits=%d (%.1f%%), stale re-resolved=%d",
+            lookups, hits, lookups == 0 ? 0.0 : hits * 100.0 / lookups, stale);
+    }
+
+    /**
+     * Publish the hit ratio per locator as a report section
+     */
+    public static void publish() {
+        if (statsByLocator.isEmpty()) {
+            return;
+        }
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"Locator", "Lookups", "Hits", "Hit ratio", "Stale re-resolved"});
+        for (Map.Entry<String, LocatorStats> entry : new TreeMap<>(statsByLocator).entrySet()) {
+            LocatorStats stats = entry.getValue();
+            long hits = stats.hits.sum();
+            long lookups = hits + stats.misses.sum();
+            rows.add(new String[] {
+                entry.getKey(),
+                String.valueOf(lookups),
+                String.valueOf(hits),
+                String.format("%.1f%%", lookups == 0 ? 0.0 : hits * 100.0 / lookups),
+                String.valueOf(stats.stale.sum())
+            });
+        }
+        ExtentManager.addSection("Element Cache", getStats(), MarkupHelper.createTable(rows.toArray(new String[0][])).getMarkup());
+        System.out.println("✓ Element cache: " + getStats());
+    }
+
+    /**
+     * Counters of a locator, looked up once by each element
+     */
+    static LocatorStats stats(By by) {
+        String key = by.toString();
+        LocatorStats stats = statsByLocator.get(key);
+        return stats != null ? stats : statsByLocator.computeIfAbsent(key, k -> new LocatorStats());
+    }
+
+    static class LocatorStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder stale = new LongAdder();
+
+        void hit() {
+            hits.increment();
+        }
+
+        void miss() {
+            misses.increment();
+        }
+
+        void stale() {
+            stale.increment();
+        }
+    }
+}
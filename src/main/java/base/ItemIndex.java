@@ -0,0 +1,257 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ItemIndex class - Name-indexed rows of an item list (products or cart) read in one script call
+ * By-name actions look a row up in the index instead of calling getText on every name, so they
+ * cost the same number of round-trips however long the list is. Like PageSnapshot, an index is
+ * valid until the next action; BasePage builds a new one for the next page generation.
+ */
+public class ItemIndex {
+
+    private static final String INDEX_SCRIPT =
+        "function text(row, sel) { var e = row.querySelector(sel); return e ? e.innerText.trim() : ''; }" +
+        "return Array.prototype.map.call(document.querySelectorAll(arguments[0]), function (row) {" +
+        "  var button = row.querySelector('button');" +
+        "  return {" +
+        "    name: text(row, '.inventory_item_name')," +
+        "    price: text(row, '.inventory_item_price')," +
+        "    button: button," +
+        "    buttonText: button ? button.textContent.trim() : ''," +
+        "    dataTest: button ? button.getAttribute('data-test') || '' : ''" +
+        "  };" +
+        "});";
+
+    private static final String ROW_BUTTON_SCRIPT =
+        "var rows = document.querySelectorAll(arguments[0]);" +
+        "for (var i = 0; i < rows.length; i++) {" +
+        "  var label = rows[i].querySelector('.inventory_item_name');" +
+        "  if (label && label.innerText.trim().toLowerCase() === arguments[1]) {" +
+        "    var button = rows[i].querySelector('button');" +
+        "    return button ? [button] : [];" +
+        "  }" +
+        "}" +
+        "return [];";
+
+    private static final String CLICK_SCRIPT =
+        "var rows = document.querySelectorAll(arguments[0]), names = arguments[1], label = arguments[2].toLowerCase();" +
+        "var badge = document.querySelector('.shopping_cart_badge');" +
+        "var result = { rows: rows.length, badge: badge ? parseInt(badge.textContent, 10) || 0 : 0, found: [], clicked: [] };" +
+        "Array.prototype.forEach.call(rows, function (row) {" +
+        "  var nameLabel = row.querySelector('.inventory_item_name');" +
+        "  var name = nameLabel ? nameLabel.innerText.trim() : '';" +
+        "  if (names && names.indexOf(name.toLowerCase()) < 0) { return; }" +
+        "  result.found.push(name);" +
+        "  var button = row.querySelector('button');" +
+        "  if (button && button.textContent.trim().toLowerCase() === label) { button.click(); result.clicked.push(name); }" +
+        "});" +
+        "return result;";
+
+    private final List<Row> rows;
+    private final Map<String, Row> rowsByName;
+
+    private ItemIndex(List<Row> rows) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.rowsByName = new HashMap<>(rows.size() * 2);
+        for (Row row : rows) {
+            rowsByName.putIfAbsent(key(row.name), row);
+        }
+    }
+
+    /**
+     * Read all rows matching the selector with one executeScript round-trip
+     * @param rowSelector CSS selector of one item row, e.g. ".inventory_item" or ".cart_item"
+     */
+    @SuppressWarnings("unchecked")
+    public static ItemIndex capture(WebDriver driver, String rowSelector) {
+        ElementCache cache = ElementCache.of(driver);
+        long generation = cache.getGeneration();
+        ElementCache.LocatorStats stats = ElementCache.stats(By.cssSelector(rowSelector + " button"));
+
+        List<Map<String, Object>> found = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+            .executeScript(INDEX_SCRIPT, rowSelector);
+        List<Row> rows = new ArrayList<>(found.size());
+        for (Map<String, Object> entry : found) {
+            WebElement button = (WebElement) entry.get("button");
+            if (button != null) {
+                // Found again by its row's name: the button's id changes between add-to-cart-* and remove-*
+                button = new LazyElement(driver, new RowButton(rowSelector, (String) entry.get("name")),
+                    stats, button, cache, generation);
+            }
+            rows.add(new Row((String) entry.get("name"), (String) entry.get("price"), button,
+                (String) entry.get("buttonText"), (String) entry.get("dataTest")));
+        }
+        return new ItemIndex(rows);
+    }
+
+    /**
+     * Click the button of every matching row in one executeScript round-trip
+     * @param rowSelector CSS selector of one item row
+     * @param names Item names (case-insensitive), or null for every row
+     * @param buttonText Only buttons showing this text are clicked, e.g. "Add to cart"
+     */
+    @SuppressWarnings("unchecked")
+    public static BulkClick clickButtons(WebDriver driver, String rowSelector, Collection<String> names, String buttonText) {
+        List<String> keys = null;
+        if (names != null) {
+            keys = new ArrayList<>(names.size());
+            for (String name : names) {
+                keys.add(key(name));
+            }
+        }
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+            .executeScript(CLICK_SCRIPT, rowSelector, keys, buttonText);
+        return new BulkClick(((Number) result.get("rows")).intValue(), ((Number) result.get("badge")).intValue(),
+            (List<String>) result.get("found"), (List<String>) result.get("clicked"));
+    }
+
+    /**
+     * Row of the item with this name (case-insensitive), or null if there is none
+     */
+    public Row get(String name) {
+        return rowsByName.get(key(name));
+    }
+
+    public boolean contains(String name) {
+        return rowsByName.containsKey(key(name));
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Locates the button of the row with the given item name in one script call
+     */
+    private static class RowButton extends By {
+        private final String rowSelector;
+        private final String name;
+
+        private RowButton(String rowSelector, String name) {
+            this.rowSelector = rowSelector;
+            this.name = name;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<WebElement> findElements(SearchContext context) {
+            return (List<WebElement>) ((JavascriptExecutor) context).executeScript(ROW_BUTTON_SCRIPT, rowSelector, key(name));
+        }
+
+        @Override
+        public String toString() {
+            return "By.rowButton: " + rowSelector + " [" + name + "]";
+        }
+    }
+
+    /**
+     * One item row: name, price label, add/remove button with its text and data-test id
+     */
+    public static class Row {
+        private final String name;
+        private final String price;
+        private final WebElement button;
+        private final String buttonText;
+        private final String dataTest;
+
+        private Row(String name, String price, WebElement button, String buttonText, String dataTest) {
+            this.name = name;
+            this.price = price;
+            this.button = button;
+            this.buttonText = buttonText;
+            this.dataTest = dataTest;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPrice() {
+            return price;
+        }
+
+        public WebElement getButton() {
+            return button;
+        }
+
+        public String getButtonText() {
+            return buttonText;
+        }
+
+        public String getDataTest() {
+            return dataTest;
+        }
+    }
+
+    /**
+     * Outcome of clickButtons: rows and cart badge before the clicks, rows matched and rows clicked
+     */
+    public static class BulkClick {
+        private final int rowsBefore;
+        private final int badgeBefore;
+        private final List<String> found;
+        private final List<String> clicked;
+
+        private BulkClick(int rowsBefore, int badgeBefore, List<String> found, List<String> clicked) {
+            this.rowsBefore = rowsBefore;
+            this.badgeBefore = badgeBefore;
+            this.found = Collections.unmodifiableList(found);
+            this.clicked = Collections.unmodifiableList(clicked);
+        }
+
+        public int getRowsBefore() {
+            return rowsBefore;
+        }
+
+        public int getBadgeBefore() {
+            return badgeBefore;
+        }
+
+        /**
+         * Requested names with no matching row
+         */
+        public List<String> getMissing(Collection<String> names) {
+            List<String> missing = new ArrayList<>();
+            if (names == null) {
+                return missing;
+            }
+            Set<String> foundKeys = new HashSet<>();
+            for (String name : found) {
+                foundKeys.add(key(name));
+            }
+            for (String name : names) {
+                if (!foundKeys.contains(key(name))) {
+                    missing.add(name);
+                }
+            }
+            return missing;
+        }
+
+        public List<String> getClicked() {
+            return clicked;
+        }
+    }
+}
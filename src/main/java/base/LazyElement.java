@@ -0,0 +1,255 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * LazyElement class - WebElement that looks itself up when the page has changed
+ * The element found is reused while the session's ElementCache generation stays the same, and
+ * located again when it moves on or the reference went stale. Implements WrapsElement/Locatable
+ * for scripts and Actions like a PageFactory element, without a dynamic proxy.
+ */
+public class LazyElement implements WebElement, WrapsElement, Locatable {
+    private final SearchContext context;
+    private final By by;
+    // Set for the elements of a LazyElementList, which are located by index
+    private final LazyElementList list;
+    private final int index;
+
+    private ElementCache cache;
+    private ElementCache.LocatorStats stats;
+    private WebElement element;
+    private long generation;
+
+    public LazyElement(SearchContext context, By by) {
+        this.context = context;
+        this.by = by;
+        this.list = null;
+        this.index = -1;
+    }
+
+    /**
+     * Element already found in the given generation, e.g. returned by a script
+     */
+    LazyElement(SearchContext context, By by, ElementCache.LocatorStats stats, WebElement element,
+            ElementCache cache, long generation) {
+        this.context = context;
+        this.by = by;
+        this.list = null;
+        this.index = -1;
+        this.cache = cache;
+        this.stats = stats;
+        this.element = element;
+        this.generation = generation;
+    }
+
+    /**
+     * Element of a list, already found in the given generation
+     */
+    LazyElement(LazyElementList list, int index, WebElement element, ElementCache cache, long generation) {
+        this.context = null;
+        this.by = list.getBy();
+        this.list = list;
+        this.index = index;
+        this.cache = cache;
+        this.stats = list.getStats();
+        this.element = element;
+        this.generation = generation;
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        if (cache == null) {
+            cache = ElementCache.of(context);
+            stats = ElementCache.stats(by);
+        }
+        long current = cache.getGeneration();
+        if (element != null && generation == current) {
+            stats.hit();
+            return element;
+        }
+
+        WebElement found = locate();
+        if (cache.isEnabled()) {
+            element = found;
+            generation = current;
+        }
+        return found;
+    }
+
+    private WebElement locate() {
+        if (list != null) {
+            WebElement found = list.locate(index);
+            if (found == null) {
+                throw new NoSuchElementException("No element " + index + " for " + by);
+            }
+            return found;
+        }
+        stats.miss();
+        return context.findElement(by);
+    }
+
+    /**
+     * Run a command on the element, locating it once more if the reference went stale
+     */
+    private <R> R call(Function<WebElement, R> command) {
+        try {
+            return command.apply(getWrappedElement());
+        } catch (StaleElementReferenceException e) {
+            if (element == null) {
+                throw e;
+            }
+            element = null;
+            stats.stale();
+            if (list != null) {
+                list.invalidate();
+            }
+            return command.apply(getWrappedElement());
+        }
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(e -> ((Locatable) e).getCoordinates());
+    }
+
+    @Override
+    public void click() {
+        call(e -> {
+            e.click();
+            return null;
+        });
+    }
+
+    @Override
+    public void submit() {
+        call(e -> {
+            e.submit();
+            return null;
+        });
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        call(e -> {
+            e.sendKeys(keysToSend);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        call(e -> {
+            e.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(e -> e.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(e -> e.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(e -> e.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By locator) {
+        return call(e -> e.findElements(locator));
+    }
+
+    @Override
+    public WebElement findElement(By locator) {
+        return call(e -> e.findElement(locator));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(e -> e.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(e -> e.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element for: " + by + (list == null ? "" : "[" + index + "]");
+    }
+}
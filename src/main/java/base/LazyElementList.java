@@ -0,0 +1,139 @@
+package base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+
+/**
+ * LazyElementList class - List of elements looked up again when the page has changed
+ * Like LazyElement, the elements found are reused while the session's ElementCache generation
+ * stays the same. Each element is a LazyElement for its index, so a stale one is located again
+ * with the list. Iterating or streaming runs a single findElements instead of one per element.
+ */
+public class LazyElementList extends AbstractList<WebElement> {
+    private final SearchContext context;
+    private final By by;
+
+    private ElementCache cache;
+    private ElementCache.LocatorStats stats;
+    private List<WebElement> found;
+    private List<WebElement> elements;
+    private long generation;
+
+    public LazyElementList(SearchContext context, By by) {
+        this.context = context;
+        this.by = by;
+    }
+
+    By getBy() {
+        return by;
+    }
+
+    ElementCache.LocatorStats getStats() {
+        return stats;
+    }
+
+    private List<WebElement> find() {
+        if (cache == null) {
+            cache = ElementCache.of(context);
+            stats = ElementCache.stats(by);
+        }
+        refresh();
+        return elements;
+    }
+
+    /**
+     * Element at an index in the current generation, or null if the list is shorter now
+     */
+    WebElement locate(int index) {
+        find();
+        return index < found.size() ? found.get(index) : null;
+    }
+
+    /**
+     * Drop the elements found, e.g. after one of them went stale
+     */
+    void invalidate() {
+        found = null;
+    }
+
+    private void refresh() {
+        long current = cache.getGeneration();
+        if (found != null && generation == current) {
+            stats.hit();
+            return;
+        }
+        stats.miss();
+        List<WebElement> result = context.findElements(by);
+        if (!cache.isEnabled()) {
+            found = null;
+            elements = result;
+            return;
+        }
+        List<WebElement> wrapped = new ArrayList<>(result.size());
+        for (int i = 0; i < result.size(); i++) {
+            wrapped.add(new LazyElement(this, i, result.get(i), cache, current));
+        }
+        found = result;
+        elements = Collections.unmodifiableList(wrapped);
+        generation = current;
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return find().get(index);
+    }
+
+    @Override
+    public int size() {
+        return find().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return find().isEmpty();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return find().iterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator(int index) {
+        return find().listIterator(index);
+    }
+
+    @Override
+    public Spliterator<WebElement> spliterator() {
+        return find().spliterator();
+    }
+
+    @Override
+    public List<WebElement> subList(int fromIndex, int toIndex) {
+        return find().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return find().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return find().toArray(array);
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element list for: " + by;
+    }
+}
@@ -0,0 +1,80 @@
+package base;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PageBindings class - Binds page elements with the classes generated at build time
+ * The binders of a page class and its superclasses are looked up once per class; after that a
+ * page is bound with plain field assignments. Classes without generated bindings (e.g. with
+ * private @FindBy fields or @FindBys/@FindAll) fall back to PageFactory.
+ */
+public class PageBindings {
+    private static final String SUFFIX = "_Bindings";
+
+    private static final LongAdder generatedBinds = new LongAdder();
+    private static final LongAdder pageFactoryBinds = new LongAdder();
+
+    private static final ClassValue<ElementBinder<Object>> binders = new ClassValue<ElementBinder<Object>>() {
+        @Override
+        protected ElementBinder<Object> computeValue(Class<?> type) {
+            return createBinder(type);
+        }
+    };
+
+    /**
+     * Initialise all @FindBy fields of a page object
+     */
+    public static void bind(Object page, SearchContext context) {
+        binders.get(page.getClass()).bind(page, context);
+    }
+
+    public static String getStats() {
+        return "generated=" + generatedBinds.sum() + ", pageFactory=" + pageFactoryBinds.sum();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementBinder<Object> createBinder(Class<?> type) {
+        List<ElementBinder<Object>> chain = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            if (!hasLocatorFields(current)) {
+                continue;
+            }
+            try {
+                Class<?> generated = Class.forName(current.getName() + SUFFIX, true, current.getClassLoader());
+                chain.add((ElementBinder<Object>) generated.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                System.out.println("✗ No generated bindings for " + current.getSimpleName() + ", using PageFactory");
+                return (page, context) -> {
+                    pageFactoryBinds.increment();
+                    PageFactory.initElements(new DefaultElementLocatorFactory(context), page);
+                };
+            }
+        }
+        return (page, context) -> {
+            generatedBinds.increment();
+            for (ElementBinder<Object> binder : chain) {
+                binder.bind(page, context);
+            }
+        };
+    }
+
+    private static boolean hasLocatorFields(Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                    || field.isAnnotationPresent(FindAll.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
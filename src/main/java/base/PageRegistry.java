@@ -0,0 +1,181 @@
+package base;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.openqa.selenium.WebDriver;
+import utils.ConfigReader;
+import utils.ExtentManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PageRegistry class - Hands out one page object per page type and browser session
+ * Navigation methods ask the registry for the next page instead of constructing it, so a flow
+ * going back and forth between pages reuses the same instances, waits and element bindings.
+ * A page handed out again is reset first, dropping state read before the navigation.
+ * Page allocations, reuses and heap bytes allocated are counted per flow (test method).
+ */
+public class PageRegistry {
+    private static final Map<WebDriver, Map<Class<?>, BasePage>> pagesBySession = new ConcurrentHashMap<>();
+    private static final Map<String, FlowStats> statsByFlow = new ConcurrentHashMap<>();
+    private static final ThreadLocal<FlowStats> currentFlow = new ThreadLocal<>();
+
+    private static final LongAdder created = new LongAdder();
+    private static final LongAdder reused = new LongAdder();
+
+    private static final ClassValue<Constructor<?>> constructors = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                return type.getConstructor(WebDriver.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(type.getName() + " has no public (WebDriver) constructor", e);
+            }
+        }
+    };
+
+    /**
+     * Get the page object of the given type for a browser session
+     * @param driver Session the page works on
+     * @param type Page class with a public (WebDriver) constructor
+     * @return Existing instance, reset for the new page load, or a new one
+     */
+    public static <T extends BasePage> T get(WebDriver driver, Class<T> type) {
+        FlowStats flow = currentFlow.get();
+        if (isEnabled()) {
+            Map<Class<?>, BasePage> pages = pagesBySession.computeIfAbsent(driver, d -> new HashMap<>());
+            BasePage page = pages.get(type);
+            if (page != null) {
+                reused.increment();
+                if (flow != null) {
+                    flow.reused++;
+                }
+                page.onNavigation();
+                return type.cast(page);
+            }
+            T created = create(driver, type, flow);
+            pages.put(type, created);
+            return created;
+        }
+        return create(driver, type, flow);
+    }
+
+    /**
+     * Forget all pages of a session, e.g. when the browser is closed
+     */
+    public static void release(WebDriver driver) {
+        pagesBySession.remove(driver);
+    }
+
+    /**
+     * Start counting page allocations of a flow on this thread
+     */
+    public static void startFlow(String name) {
+        currentFlow.set(new FlowStats(name, allocatedBytes()));
+    }
+
+    /**
+     * Stop counting for this thread's flow and add it to the per-flow totals
+     * @return Summary line for the test log, or null if no flow was started
+     */
+    public static String endFlow() {
+        FlowStats flow = currentFlow.get();
+        currentFlow.remove();
+        if (flow == null) {
+            return null;
+        }
+        long bytes = flow.startBytes < 0 ? -1 : allocatedBytes() - flow.startBytes;
+        FlowStats total = statsByFlow.computeIfAbsent(flow.name, k -> new FlowStats(k, 0));
+        synchronized (total) {
+            total.runs++;
+            total.created += flow.created;
+            total.reused += flow.reused;
+            total.allocatedBytes += Math.max(bytes, 0);
+        }
+        return "Pages created " + flow.created + ", reused " + flow.reused
+            + (bytes < 0 ? "" : ", heap allocated " + bytes / 1024 + " KB");
+    }
+
+    public static String getStats() {
+        return "created=" + created.sum() + ", reused=" + reused.sum();
+    }
+
+    /**
+     * Publish page allocations and heap allocated per flow as a report section
+     */
+    public static void publish() {
+        if (statsByFlow.isEmpty()) {
+            return;
+        }
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"Flow", "Runs", "Pages created", "Pages reused", "Heap allocated / run (KB)"});
+        for (FlowStats flow : new TreeMap<>(statsByFlow).values()) {
+            rows.add(new String[] {
+                flow.name,
+                String.valueOf(flow.runs),
+                String.valueOf(flow.created),
+                String.valueOf(flow.reused),
+                String.valueOf(flow.allocatedBytes / Math.max(flow.runs, 1) / 1024)
+            });
+        }
+        ExtentManager.addSection("Page Registry", "Registry " + (isEnabled() ? "enabled" : "disabled") + ": " + getStats(),
+            MarkupHelper.createTable(rows.toArray(new String[0][])).getMarkup());
+        System.out.println("✓ Page registry: " + getStats());
+    }
+
+    private static <T extends BasePage> T create(WebDriver driver, Class<T> type, FlowStats flow) {
+        created.increment();
+        if (flow != null) {
+            flow.created++;
+        }
+        try {
+            return type.cast(constructors.get(type).newInstance(driver));
+        } catch (ReflectiveOperationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Cannot create " + type.getSimpleName(), cause);
+        }
+    }
+
+    private static boolean isEnabled() {
+        return ConfigReader.getInstance().getBoolean("page.registry.enabled", true);
+    }
+
+    /**
+     * Heap bytes allocated by this thread so far, or -1 if the JVM does not track it
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    private static class FlowStats {
+        private final String name;
+        private final long startBytes;
+        private int runs;
+        private long created;
+        private long reused;
+        private long allocatedBytes;
+
+        private FlowStats(String name, long startBytes) {
+            this.name = name;
+            this.startBytes = startBytes;
+        }
+    }
+}
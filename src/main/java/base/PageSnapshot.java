@@ -0,0 +1,88 @@
+package base;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PageSnapshot class - State of the current page read in a single script call
+ * Page objects answer read-only queries from the snapshot until the next action invalidates it,
+ * instead of paying a visibility wait and a getText round-trip per element.
+ */
+public class PageSnapshot {
+
+    private static final String SNAPSHOT_SCRIPT =
+        "function texts(sel) {" +
+        "  return Array.prototype.map.call(document.querySelectorAll(sel), function (e) { return e.innerText.trim(); });" +
+        "}" +
+        "var title = document.querySelector('.title');" +
+        "var badge = document.querySelector('.shopping_cart_badge');" +
+        "var error = document.querySelector(\"h3[data-test='error']\");" +
+        "return {" +
+        "  title: title ? title.innerText.trim() : ''," +
+        "  itemNames: texts('.inventory_item_name')," +
+        "  prices: texts('.inventory_item_price')," +
+        "  quantities: texts('.cart_quantity')," +
+        "  badgeCount: badge ? parseInt(badge.textContent, 10) || 0 : 0," +
+        "  errorText: error ? error.innerText.trim() : ''" +
+        "};";
+
+    private final String title;
+    private final List<String> itemNames;
+    private final List<String> prices;
+    private final List<String> quantities;
+    private final int badgeCount;
+    private final String errorText;
+
+    @SuppressWarnings("unchecked")
+    private PageSnapshot(Map<String, Object> state) {
+        this.title = (String) state.get("title");
+        this.itemNames = Collections.unmodifiableList((List<String>) state.get("itemNames"));
+        this.prices = Collections.unmodifiableList((List<String>) state.get("prices"));
+        this.quantities = Collections.unmodifiableList((List<String>) state.get("quantities"));
+        this.badgeCount = ((Number) state.get("badgeCount")).intValue();
+        this.errorText = (String) state.get("errorText");
+    }
+
+    /**
+     * Read the page state with one executeScript round-trip
+     */
+    @SuppressWarnings("unchecked")
+    public static PageSnapshot capture(WebDriver driver) {
+        return new PageSnapshot((Map<String, Object>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT));
+    }
+
+    /**
+     * Parse a price label such as "$29.99"
+     */
+    public static double parsePrice(String priceText) {
+        return Double.parseDouble(priceText.replace("$", "").trim());
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<String> getItemNames() {
+        return itemNames;
+    }
+
+    public List<String> getPrices() {
+        return prices;
+    }
+
+    public List<String> getQuantities() {
+        return quantities;
+    }
+
+    public int getBadgeCount() {
+        return badgeCount;
+    }
+
+    public String getErrorText() {
+        return errorText;
+    }
+}
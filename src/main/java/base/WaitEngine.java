@@ -0,0 +1,126 @@
+package base;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import utils.ConfigReader;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * WaitEngine class - Polls a post-condition until it holds instead of sleeping
+ * Polling starts at wait.poll.ms and grows by wait.backoff up to wait.poll.max.ms.
+ * Every wait is compared with the fixed sleep it replaced so the saved time can be reported per test.
+ */
+public class WaitEngine {
+    private static final ThreadLocal<long[]> sleepAccounting = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final long pollMillis;
+    private final long maxPollMillis;
+    private final double backoff;
+
+    public WaitEngine(WebDriver driver) {
+        this(driver, ConfigReader.getInstance().getDuration("explicit.wait", Duration.ofSeconds(20), ChronoUnit.SECONDS));
+    }
+
+    public WaitEngine(WebDriver driver, Duration timeout) {
+        ConfigReader config = ConfigReader.getInstance();
+        this.driver = driver;
+        this.timeout = timeout;
+        this.pollMillis = config.getLong("wait.poll.ms", 50);
+        this.maxPollMillis = config.getLong("wait.poll.max.ms", 500);
+        this.backoff = config.getDouble("wait.backoff", 1.5);
+    }
+
+    /**
+     * Same polling settings with a different timeout
+     */
+    public WaitEngine withTimeout(Duration newTimeout) {
+        return new WaitEngine(driver, newTimeout);
+    }
+
+    /**
+     * Wait until the condition returns a non-null, non-false value
+     * @param condition Post-condition to poll
+     * @param replacedSleepMillis Fixed sleep this wait replaces (0 if none)
+     * @param description Used in the timeout message
+     * @return Value returned by the condition
+     */
+    public <T> T until(ExpectedCondition<T> condition, long replacedSleepMillis, String description) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long poll = pollMillis;
+        RuntimeException lastError = null;
+
+        try {
+            while (true) {
+                try {
+                    T value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        return value;
+                    }
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    lastError = e;
+                }
+
+                if (System.nanoTime() > deadline) {
+                    throw new TimeoutException("Timed out after " + timeout.toMillis()
+                        + " ms waiting for " + description, lastError);
+                }
+
+                try {
+                    Thread.sleep(poll);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for " + description, e);
+                }
+                poll = Math.min((long) (poll * backoff), maxPollMillis);
+            }
+        } finally {
+            account(replacedSleepMillis, start);
+        }
+    }
+
+    /**
+     * Block on a DOM mutation signal registered before the action
+     * @param signal Expectation registered in the page
+     * @param replacedSleepMillis Fixed sleep this wait replaces (0 if none)
+     * @return Value after the mutation, or null if the page navigated away
+     */
+    public String await(DomSignal signal, long replacedSleepMillis) {
+        long start = System.nanoTime();
+        try {
+            return signal.await(timeout);
+        } finally {
+            account(replacedSleepMillis, start);
+        }
+    }
+
+    private static void account(long replacedSleepMillis, long startNanos) {
+        long[] accounting = sleepAccounting.get();
+        accounting[0] += replacedSleepMillis;
+        accounting[1] += (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Get fixed sleep time saved by the current thread since the last reset
+     */
+    public static long getSavedMillis() {
+        long[] accounting = sleepAccounting.get();
+        return accounting[0] - accounting[1];
+    }
+
+    /**
+     * Reset the saved time counter (called at the start of each test)
+     */
+    public static void resetSavedMillis() {
+        long[] accounting = sleepAccounting.get();
+        accounting[0] = 0;
+        accounting[1] = 0;
+    }
+}
@@ -0,0 +1,461 @@
+package listeners;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.testng.IAlterSuiteListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import utils.ConfigReader;
+import utils.ExtentManager;
+import utils.Gate;
+import utils.ShardContext;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DurationScheduler class to order tests longest-first from recorded durations
+ * Every test's duration (including its @BeforeMethod/@AfterMethod) is kept in a history
+ * file (schedule.history). On later runs slow work is started first so it does not end up
+ * in the tail: &lt;test&gt; blocks are reordered for parallel=tests, classes for
+ * parallel=classes and methods for parallel=methods. &lt;test&gt; blocks run one after another,
+ * so for parallel=classes and parallel=methods they are merged into one &lt;test&gt; first and all
+ * classes share the thread pool. @Gate tests always go first so their dependents can be
+ * skipped early. Must be registered after ParallelSuiteListener so it sees the final parallel
+ * mode and thread count.
+ */
+public class DurationScheduler implements IAlterSuiteListener, IMethodInterceptor, IInvokedMethodListener {
+    // Weight of the latest run in the stored duration
+    private static final double HISTORY_WEIGHT = 0.5;
+
+    private static final Map<String, Long> history = new ConcurrentHashMap<>();
+    private static final Map<String, Long> observed = new ConcurrentHashMap<>();
+    private static final Map<String, Long> predicted = new ConcurrentHashMap<>();
+    private static final AtomicLong suiteStartMillis = new AtomicLong();
+    private static volatile long predictedMakespan = -1;
+    private static volatile boolean loaded;
+
+    private static final ThreadLocal<Long> invocationStart = new ThreadLocal<>();
+    private static final ThreadLocal<Long> setupMillis = ThreadLocal.withInitial(() -> 0L);
+    private static final ThreadLocal<String> lastTest = new ThreadLocal<>();
+
+    public static boolean isEnabled() {
+        return ConfigReader.getInstance().getBoolean("schedule.enabled", true);
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        // A new suite in the same JVM measures and predicts from scratch
+        observed.clear();
+        predicted.clear();
+        suiteStartMillis.set(0);
+        predictedMakespan = -1;
+        if (!isEnabled()) {
+            return;
+        }
+        loadHistory();
+        long makespan = 0;
+        for (XmlSuite suite : suites) {
+            makespan += planSuite(suite);
+        }
+        if (history.isEmpty()) {
+            System.out.println("✓ Scheduler: no duration history yet, keeping suite order");
+            return;
+        }
+        predictedMakespan = makespan;
+        System.out.println("✓ Scheduler: predicted makespan " + seconds(makespan) + " s");
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!isEnabled()) {
+            return methods;
+        }
+
+        XmlSuite.ParallelMode mode = context.getSuite().getXmlSuite().getParallel();
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        if (mode == XmlSuite.ParallelMode.METHODS) {
+            // Stable sort keeps the suite order among tests of equal cost
+            ordered.sort(Comparator.comparing((IMethodInstance m) -> !isGate(m.getMethod()))
+                .thenComparing(Comparator.comparingLong((IMethodInstance m) -> costOf(keyOf(m.getMethod()))).reversed()));
+        } else if (mode == XmlSuite.ParallelMode.CLASSES) {
+            // Methods stay in suite order inside their class, classes go longest-first
+            Map<Class<?>, List<IMethodInstance>> byClass = new LinkedHashMap<>();
+            for (IMethodInstance method : methods) {
+                byClass.computeIfAbsent(method.getMethod().getRealClass(), c -> new ArrayList<>()).add(method);
+            }
+            List<List<IMethodInstance>> groups = new ArrayList<>(byClass.values());
+            groups.sort(Comparator.comparing((List<IMethodInstance> g) -> g.stream().noneMatch(m -> isGate(m.getMethod())))
+                .thenComparing(Comparator.comparingLong(DurationScheduler::groupCost).reversed()));
+            ordered.clear();
+            groups.forEach(ordered::addAll);
+        }
+        return ordered;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        long now = System.currentTimeMillis();
+        suiteStartMillis.compareAndSet(0, now);
+        invocationStart.set(now);
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        Long start = invocationStart.get();
+        if (start == null) {
+            return;
+        }
+        long millis = System.currentTimeMillis() - start;
+        ITestNGMethod testMethod = method.getTestMethod();
+
+        if (method.isTestMethod() && result.getStatus() == ITestResult.SKIP) {
+            // A skipped test says nothing about how long it takes
+            setupMillis.set(0L);
+            lastTest.remove();
+        } else if (method.isTestMethod()) {
+            String key = keyOf(testMethod);
+            observed.merge(key, setupMillis.get() + millis, Long::sum);
+            setupMillis.set(0L);
+            lastTest.set(key);
+        } else if (testMethod.isBeforeMethodConfiguration()) {
+            setupMillis.set(setupMillis.get() + millis);
+        } else if (testMethod.isAfterMethodConfiguration() && lastTest.get() != null) {
+            observed.merge(lastTest.get(), millis, Long::sum);
+        }
+    }
+
+    /**
+     * Save this run's durations and publish predicted vs actual finish to the report
+     */
+    public static void publish() {
+        if (!isEnabled() || observed.isEmpty()) {
+            return;
+        }
+        long start = suiteStartMillis.get();
+        long actual = System.currentTimeMillis() - start;
+        saveHistory();
+
+        SimpleDateFormat clock = new SimpleDateFormat("HH:mm:ss");
+        List<String[]> summary = new ArrayList<>();
+        summary.add(new String[] {"", "Makespan (s)", "Finish"});
+        if (predictedMakespan > 0) {
+            summary.add(new String[] {"Predicted", seconds(predictedMakespan),
+                clock.format(new Date(start + predictedMakespan))});
+        }
+        summary.add(new String[] {"Actual", seconds(actual), clock.format(new Date(start + actual))});
+
+        List<Map.Entry<String, Long>> tests = new ArrayList<>(observed.entrySet());
+        tests.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"Test", "Predicted (s)", "Actual (s)"});
+        for (Map.Entry<String, Long> entry : tests) {
+            Long expected = predicted.get(entry.getKey());
+            rows.add(new String[] {entry.getKey(), expected == null ? "-" : seconds(expected), seconds(entry.getValue())});
+        }
+
+        ExtentManager.addSection("Test Scheduling", MarkupHelper.createTable(summary.toArray(new String[0][])).getMarkup(),
+            MarkupHelper.createTable(rows.toArray(new String[0][])).getMarkup());
+
+        String info = "actual " + seconds(actual) + " s"
+            + (predictedMakespan > 0 ? ", predicted " + seconds(predictedMakespan) + " s" : ", no history");
+        ExtentManager.setSystemInfo("Scheduler", info);
+        System.out.println("✓ Scheduler: " + info);
+    }
+
+    /**
+     * Reorder a suite's work and predict how long it takes
+     * @return Predicted makespan in ms
+     */
+    private static long planSuite(XmlSuite suite) {
+        XmlSuite.ParallelMode mode = suite.getParallel();
+        int threads = Math.max(1, suite.getThreadCount());
+        if (mode == XmlSuite.ParallelMode.CLASSES || mode == XmlSuite.ParallelMode.METHODS) {
+            mergeTests(suite);
+        }
+
+        Map<XmlTest, List<Long>> methodCosts = new LinkedHashMap<>();
+        Map<XmlTest, List<Long>> classCosts = new LinkedHashMap<>();
+        Map<XmlTest, Boolean> hasGate = new LinkedHashMap<>();
+        for (XmlTest test : suite.getTests()) {
+            hasGate.put(test, false);
+            List<Long> methods = new ArrayList<>();
+            List<Long> classes = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                long classTotal = 0;
+                for (String key : keysOf(xmlClass)) {
+                    if (isGate(xmlClass, key)) {
+                        hasGate.put(test, true);
+                    }
+                    long cost = costOf(key);
+                    if (!history.isEmpty()) {
+                        predicted.put(key, cost);
+                    }
+                    methods.add(cost);
+                    classTotal += cost;
+                }
+                classes.add(classTotal);
+            }
+            methodCosts.put(test, methods);
+            classCosts.put(test, classes);
+        }
+
+        if (mode == XmlSuite.ParallelMode.TESTS) {
+            Map<XmlTest, Long> testCosts = new LinkedHashMap<>();
+            methodCosts.forEach((test, costs) -> testCosts.put(test, sum(costs)));
+            List<XmlTest> ordered = new ArrayList<>(suite.getTests());
+            ordered.sort(Comparator.comparing((XmlTest t) -> !hasGate.get(t))
+                .thenComparing(Comparator.comparingLong((XmlTest t) -> testCosts.get(t)).reversed()));
+            suite.setTests(ordered);
+            return longestFirst(new ArrayList<>(testCosts.values()), threads);
+        }
+
+        // <test> blocks left run one after another; their methods or classes share the pool
+        long makespan = 0;
+        for (XmlTest test : suite.getTests()) {
+            if (mode == XmlSuite.ParallelMode.METHODS) {
+                makespan += longestFirst(methodCosts.get(test), threads);
+            } else if (mode == XmlSuite.ParallelMode.CLASSES) {
+                makespan += longestFirst(classCosts.get(test), threads);
+            } else {
+                makespan += sum(methodCosts.get(test));
+            }
+        }
+        return makespan;
+    }
+
+    /**
+     * Merge a suite's &lt;test&gt; blocks into one, so their classes or methods are spread over
+     * the same workers instead of running block after block. Suites whose blocks select
+     * packages, groups or parameters are left alone.
+     */
+    private static void mergeTests(XmlSuite suite) {
+        List<XmlTest> tests = suite.getTests();
+        if (tests.size() < 2) {
+            return;
+        }
+        for (XmlTest test : tests) {
+            if (!test.getXmlPackages().isEmpty() || !test.getIncludedGroups().isEmpty()
+                    || !test.getExcludedGroups().isEmpty() || !test.getLocalParameters().isEmpty()) {
+                System.out.println("✗ Scheduler: <test> " + test.getName()
+                    + " selects packages, groups or parameters, keeping <test> blocks apart");
+                return;
+            }
+        }
+
+        XmlTest merged = new XmlTest();
+        merged.setSuite(suite);
+        merged.setName(suite.getName());
+        merged.setPreserveOrder(tests.get(0).getPreserveOrder());
+        List<XmlClass> classes = new ArrayList<>();
+        for (XmlTest test : tests) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                xmlClass.setXmlTest(merged);
+                xmlClass.setIndex(classes.size());
+                classes.add(xmlClass);
+            }
+        }
+        merged.setXmlClasses(classes);
+        suite.setTests(new ArrayList<>(Collections.singletonList(merged)));
+        System.out.println("✓ Scheduler: merged " + tests.size() + " <test> blocks so " + classes.size()
+            + " classes share " + suite.getThreadCount() + " threads");
+    }
+
+    /**
+     * Simulate handing the longest remaining job to the first free worker
+     */
+    private static long longestFirst(List<Long> costs, int workers) {
+        List<Long> sorted = new ArrayList<>(costs);
+        sorted.sort(Collections.reverseOrder());
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < workers; i++) {
+            loads.add(0L);
+        }
+        long makespan = 0;
+        for (long cost : sorted) {
+            long load = loads.poll() + cost;
+            makespan = Math.max(makespan, load);
+            loads.add(load);
+        }
+        return makespan;
+    }
+
+    /**
+     * Class.method keys of the tests this JVM runs from a &lt;class&gt; entry
+     */
+    private static List<String> keysOf(XmlClass xmlClass) {
+        List<String> keys = new ArrayList<>();
+        for (XmlInclude include : xmlClass.getIncludedMethods()) {
+            keys.add(xmlClass.getName() + "." + include.getName());
+        }
+        if (keys.isEmpty()) {
+            // No explicit includes: the class's known tests are the best estimate
+            for (String key : new TreeMap<>(history).keySet()) {
+                if (key.startsWith(xmlClass.getName() + ".")) {
+                    keys.add(key);
+                }
+            }
+        }
+
+        int total = ShardContext.getShardTotal();
+        if (total > 1) {
+            keys.removeIf(key -> ShardInterceptor.shardOf(key, total) != ShardContext.getShardIndex());
+        }
+        return keys;
+    }
+
+    /**
+     * Expected duration of a test keyed as Class.method: its recorded duration, else the
+     * mean of this run's tests, else 0
+     */
+    public static long estimateMillis(String key) {
+        Long recorded = history.get(key);
+        if (recorded != null) {
+            return recorded;
+        }
+        if (!history.isEmpty()) {
+            return costOf(key);
+        }
+        return observed.isEmpty() ? 0 : sum(observed.values()) / observed.size();
+    }
+
+    private static boolean isGate(ITestNGMethod method) {
+        return method.getConstructorOrMethod().getMethod().isAnnotationPresent(Gate.class);
+    }
+
+    private static boolean isGate(XmlClass xmlClass, String key) {
+        String name = key.substring(key.lastIndexOf('.') + 1);
+        for (Method method : xmlClass.getSupportClass().getMethods()) {
+            if (method.getName().equals(name) && method.isAnnotationPresent(Gate.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String keyOf(ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+
+    /**
+     * Recorded duration, or the mean of all recorded durations for a new test
+     */
+    private static long costOf(String key) {
+        Long cost = history.get(key);
+        if (cost != null) {
+            return cost;
+        }
+        return history.isEmpty() ? 0 : sum(history.values()) / history.size();
+    }
+
+    private static long groupCost(List<IMethodInstance> methods) {
+        long total = 0;
+        for (IMethodInstance method : methods) {
+            total += costOf(keyOf(method.getMethod()));
+        }
+        return total;
+    }
+
+    private static long sum(Iterable<Long> values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static Path historyPath() {
+        return Paths.get(ConfigReader.getInstance().getProperty("schedule.history", "./test-output/duration-history.properties"));
+    }
+
+    private static synchronized void loadHistory() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        history.putAll(readHistory(historyPath()));
+        if (!history.isEmpty()) {
+            System.out.println("✓ Scheduler: loaded durations of " + history.size() + " tests from " + historyPath());
+        }
+    }
+
+    private static Map<String, Long> readHistory(Path path) {
+        Map<String, Long> durations = new TreeMap<>();
+        if (!Files.exists(path)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to read duration history: " + e.getMessage());
+            return durations;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                // Hand-edited or corrupt entry, measured again on this run
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Blend this run into the history file, re-read first so parallel shards do not drop each other's entries
+     */
+    private static synchronized void saveHistory() {
+        Path path = historyPath();
+        Map<String, Long> merged = readHistory(path);
+        for (Map.Entry<String, Long> entry : observed.entrySet()) {
+            Long previous = merged.get(entry.getKey());
+            long value = previous == null ? entry.getValue()
+                : Math.round(HISTORY_WEIGHT * entry.getValue() + (1 - HISTORY_WEIGHT) * previous);
+            merged.put(entry.getKey(), value);
+        }
+
+        StringBuilder content = new StringBuilder("# Test durations in ms, written by listeners.DurationScheduler\n");
+        merged.forEach((key, value) -> content.append(key).append('=').append(value).append('\n'));
+        try {
+            Path absolute = path.toAbsolutePath();
+            Files.createDirectories(absolute.getParent());
+            Path temp = Files.createTempFile(absolute.getParent(), "duration-history", ".tmp");
+            Files.write(temp, content.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("✓ Duration history saved: " + path);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to save duration history: " + e.getMessage());
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+}
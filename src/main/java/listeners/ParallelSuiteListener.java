@@ -0,0 +1,68 @@
+package listeners;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import utils.ConfigReader;
+import utils.GridExecution;
+
+import java.util.List;
+
+/**
+ * ParallelSuiteListener class to switch the suite into parallel mode
+ * Reads parallel.mode (none, methods, classes, tests) and thread.count from the
+ * configuration (system properties override config.properties)
+ * With execution=grid the thread count follows the grid's free slots and whole test
+ * classes are handed to workers, so every class keeps one node for its methods.
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigReader config = ConfigReader.getInstance();
+        if (GridExecution.isEnabled(config)) {
+            alterForGrid(suites, config);
+            return;
+        }
+
+        String mode = config.getProperty("parallel.mode", "none");
+        int threadCount = config.getInt("thread.count", 1);
+
+        XmlSuite.ParallelMode parallelMode = XmlSuite.ParallelMode.getValidParallel(mode);
+        if (parallelMode == XmlSuite.ParallelMode.NONE || threadCount <= 1) {
+            System.out.println("✓ Parallel execution disabled");
+            return;
+        }
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(parallelMode);
+            suite.setThreadCount(threadCount);
+        }
+        System.out.println("✓ Parallel execution: " + parallelMode + " with " + threadCount + " threads");
+    }
+
+    private void alterForGrid(List<XmlSuite> suites, ConfigReader config) {
+        int slots = GridExecution.getAvailableSlots(config.getBrowser().toLowerCase());
+        int maxThreads = config.getInt("grid.max.threads", 0);
+        int threadCount = maxThreads > 0 ? Math.min(slots, maxThreads) : slots;
+        if (threadCount <= 1) {
+            System.out.println("✓ Grid has " + slots + " free slot(s), running sequentially");
+            return;
+        }
+
+        for (XmlSuite suite : suites) {
+            // <test> blocks holding a single class are distributed as tests, which also
+            // keeps their before/after configuration on one thread
+            XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.TESTS;
+            for (XmlTest test : suite.getTests()) {
+                if (test.getXmlClasses().size() > 1) {
+                    mode = XmlSuite.ParallelMode.CLASSES;
+                }
+            }
+            suite.setParallel(mode);
+            suite.setThreadCount(threadCount);
+            System.out.println("✓ Grid execution: " + mode + " with " + threadCount + " threads ("
+                + slots + " free slots)");
+        }
+    }
+}
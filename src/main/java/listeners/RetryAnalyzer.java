@@ -0,0 +1,149 @@
+package listeners;
+
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+import utils.ConfigReader;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RetryAnalyzer class to re-run a failed test a limited number of times
+ * Each test may be retried retry.max times, and all retries together may take at most
+ * retry.budget. An attempt is timed from startAttempt() to endAttempt(), so setup (with its fresh
+ * browser), the test and teardown all count. A retry is granted only if the failed attempt's
+ * duration still fits in the remaining budget; the reservation is settled with the retry's real
+ * duration once it ends. Attached to every @Test by RetryListener.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+    private static final AtomicLong budgetUsedMillis = new AtomicLong();
+    private static final AtomicInteger granted = new AtomicInteger();
+    private static final AtomicInteger refused = new AtomicInteger();
+    // Analyzers that granted a retry, by test; TestNG only creates analyzers once a test has failed
+    private static final Map<String, RetryAnalyzer> retriedTests = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Long> attemptStart = new ThreadLocal<>();
+
+    private int attempts;
+    // Reservation of the retry that is running, and of the one granted to the attempt still tearing down
+    private boolean retryRunning;
+    private long reservedMillis;
+    private boolean retryGranted;
+    private long nextReservedMillis;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        ConfigReader config = ConfigReader.getInstance();
+        String test = result.getMethod().getMethodName();
+        if (result.getThrowable() instanceof SkipException || attempts >= config.getInt("retry.max", 1)) {
+            return false;
+        }
+
+        long budget = getBudget(config).toMillis();
+        // Teardown has not run yet, endAttempt() corrects the estimate once it has
+        Long start = attemptStart.get();
+        long estimate = start == null ? Math.max(0, result.getEndMillis() - result.getStartMillis())
+            : System.currentTimeMillis() - start;
+        long used = budgetUsedMillis.addAndGet(estimate);
+        if (used > budget) {
+            budgetUsedMillis.addAndGet(-estimate);
+            refused.incrementAndGet();
+            System.out.println("✗ Retry budget exhausted, not retrying " + test);
+            return false;
+        }
+
+        attempts++;
+        retryGranted = true;
+        nextReservedMillis = estimate;
+        retriedTests.put(keyOf(result), this);
+        granted.incrementAndGet();
+        System.out.println("  → Retrying " + test + " (attempt " + (attempts + 1) + ") on a fresh session");
+        return true;
+    }
+
+    /**
+     * Number of retries granted so far for this test (0 on the first attempt)
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Mark the start of a test attempt on this thread; call before the attempt's setup
+     */
+    public static void startAttempt() {
+        attemptStart.set(System.currentTimeMillis());
+    }
+
+    /**
+     * Mark the end of a test attempt on this thread; call after the attempt's teardown
+     * Settles a finished retry with its real duration and, when this attempt was granted a retry,
+     * reserves the attempt's full duration for it.
+     */
+    public static void endAttempt(ITestResult result) {
+        Long start = attemptStart.get();
+        attemptStart.remove();
+        RetryAnalyzer analyzer = of(result);
+        if (start != null && analyzer != null) {
+            analyzer.settle(System.currentTimeMillis() - start);
+        }
+    }
+
+    private void settle(long attemptMillis) {
+        if (retryRunning) {
+            // The attempt that ended was a retry: its real duration replaces the reservation
+            budgetUsedMillis.addAndGet(attemptMillis - reservedMillis);
+        }
+        retryRunning = retryGranted;
+        reservedMillis = retryGranted ? attemptMillis : 0;
+        if (retryGranted) {
+            budgetUsedMillis.addAndGet(attemptMillis - nextReservedMillis);
+        }
+        retryGranted = false;
+        nextReservedMillis = 0;
+    }
+
+    /**
+     * Forget the retries and budget of the previous suite
+     */
+    public static void reset() {
+        retriedTests.clear();
+        budgetUsedMillis.set(0);
+        granted.set(0);
+        refused.set(0);
+    }
+
+    /**
+     * Retry analyzer of a test result, or null if the test has not been retried
+     * Safe in @BeforeMethod: looks the analyzer up instead of asking TestNG to create it.
+     */
+    public static RetryAnalyzer of(ITestResult result) {
+        return retriedTests.get(keyOf(result));
+    }
+
+    /**
+     * Number of retries granted so far for the test of this result (0 on the first attempt)
+     */
+    public static int attemptOf(ITestResult result) {
+        RetryAnalyzer analyzer = of(result);
+        return analyzer == null ? 0 : analyzer.getAttempts();
+    }
+
+    private static String keyOf(ITestResult result) {
+        return result.getMethod().getQualifiedName() + Arrays.deepToString(result.getParameters());
+    }
+
+    public static Duration getBudget(ConfigReader config) {
+        return config.getDuration("retry.budget", Duration.ofMinutes(5), ChronoUnit.SECONDS);
+    }
+
+    public static String getStats() {
+        return String.format("%d retries, %d refused, %.1f of %d s budget used", granted.get(), refused.get(),
+            budgetUsedMillis.get() / 1000.0, getBudget(ConfigReader.getInstance()).getSeconds());
+    }
+}
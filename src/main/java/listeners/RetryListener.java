@@ -0,0 +1,81 @@
+package listeners;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+import utils.ConfigReader;
+import utils.FlakeHistory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RetryListener class to retry failed tests and keep flaky ones in their own lane
+ * Attaches RetryAnalyzer to every @Test without an analyzer (retry.enabled), records each
+ * test's final outcome in FlakeHistory and filters the suite by lane: all (default),
+ * stable (quarantined tests left out) or quarantine (only quarantined tests).
+ */
+public class RetryListener implements IAnnotationTransformer, IMethodInterceptor, ITestListener,
+        ISuiteListener {
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (!ConfigReader.getInstance().getBoolean("retry.enabled", true)) {
+            return;
+        }
+        Class<?> current = annotation.getRetryAnalyzerClass();
+        if (current == null || DisabledRetryAnalyzer.class.equals(current)) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        RetryAnalyzer.reset();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        String lane = ConfigReader.getInstance().getProperty("lane", "all").trim().toLowerCase();
+        if (!lane.equals("stable") && !lane.equals("quarantine")) {
+            return methods;
+        }
+
+        boolean quarantineLane = lane.equals("quarantine");
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            String key = method.getMethod().getRealClass().getName() + "." + method.getMethod().getMethodName();
+            if (FlakeHistory.isQuarantined(key) == quarantineLane) {
+                selected.add(method);
+            }
+        }
+        System.out.println("✓ Lane '" + lane + "' runs " + selected.size() + " of " + methods.size()
+            + " tests in " + context.getName());
+        return selected;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        FlakeHistory.recordOutcome(keyOf(result), RetryAnalyzer.attemptOf(result), true);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        // Only the last attempt reports a failure, earlier ones are reported as retried skips
+        RetryAnalyzer analyzer = RetryAnalyzer.of(result);
+        FlakeHistory.recordOutcome(keyOf(result), analyzer == null ? 0 : analyzer.getAttempts(), false);
+    }
+
+    private static String keyOf(ITestResult result) {
+        return result.getMethod().getRealClass().getName() + "." + result.getMethod().getMethodName();
+    }
+}
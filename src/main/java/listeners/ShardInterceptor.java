@@ -0,0 +1,50 @@
+package listeners;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import utils.ShardContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ShardInterceptor class to run one slice of the suite per worker
+ * With shard.total=N each test method is assigned to shard hash(Class.method) mod N,
+ * so N JVMs started with shard.index=0..N-1 run every test exactly once between them.
+ */
+public class ShardInterceptor implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = ShardContext.getShardTotal();
+        if (total <= 1) {
+            return methods;
+        }
+        int index = ShardContext.getShardIndex();
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (shardOf(method, total) == index) {
+                selected.add(method);
+            }
+        }
+        System.out.println("✓ Shard " + index + "/" + total + " runs " + selected.size() + " of "
+            + methods.size() + " tests in " + context.getName());
+        return selected;
+    }
+
+    /**
+     * Stable shard assignment, independent of test order and JVM
+     */
+    public static int shardOf(IMethodInstance method, int total) {
+        return shardOf(method.getMethod().getRealClass().getName() + "." + method.getMethod().getMethodName(), total);
+    }
+
+    /**
+     * Shard of a test identified as Class.method
+     */
+    public static int shardOf(String key, int total) {
+        return Math.floorMod(key.hashCode(), total);
+    }
+}
@@ -1,9 +1,18 @@
 package pages;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import base.BasePage;
+import base.Conditions;
+import base.DomSignal;
+import base.ItemIndex;
+import base.PageSnapshot;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,44 +20,48 @@ import java.util.List;
  * Contains all elements and actions for cart functionality
  */
 public class CartPage extends BasePage {
+    private static final String CART_ROWS = ".cart_item";
+    private static final String REMOVE = "Remove";
 
     // Page Elements
     @FindBy(className = "title")
-    private WebElement pageTitle;
-
-    @FindBy(className = "cart_item")
-    private List<WebElement> cartItems;
+    WebElement pageTitle;
 
     @FindBy(id = "checkout")
-    private WebElement checkoutButton;
+    WebElement checkoutButton;
 
     @FindBy(id = "continue-shopping")
-    private WebElement continueShoppingButton;
+    WebElement continueShoppingButton;
 
     @FindBy(className = "cart_button")
-    private List<WebElement> removeButtons;
+    List<WebElement> removeButtons;
 
     @FindBy(className = "inventory_item_name")
-    private List<WebElement> cartItemNames;
-
-    @FindBy(className = "inventory_item_price")
-    private List<WebElement> cartItemPrices;
+    List<WebElement> cartItemNames;
 
     @FindBy(className = "cart_quantity")
-    private List<WebElement> cartItemQuantities;
+    List<WebElement> cartItemQuantities;
 
     // Constructor
     public CartPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * Cart header rendered (the cart may be empty)
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return Conditions.present(".title");
+    }
+
     // Page Actions
 
     /**
      * Get page title
      */
     public String getPageTitle() {
-        return getText(pageTitle);
+        return snapshot().getTitle();
     }
 
     /**
@@ -62,7 +75,7 @@ public class CartPage extends BasePage {
      * Get count of items in cart
      */
     public int getCartItemCount() {
-        int count = cartItems.size();
+        int count = snapshot().getItemNames().size();
         System.out.println("  → Items in cart: " + count);
         return count;
     }
@@ -71,9 +84,7 @@ public class CartPage extends BasePage {
      * Get list of all cart item names
      */
     public List<String> getAllCartItemNames() {
-        return cartItemNames.stream()
-            .map(this::getText)
-            .toList();
+        return snapshot().getItemNames();
     }
 
     /**
@@ -103,23 +114,15 @@ public class CartPage extends BasePage {
      */
     public CheckoutPage clickCheckout() {
         try {
-            // Wait for cart page to fully load
-            Thread.sleep(1000);
-            
-            // Scroll to checkout button
-            js.executeScript("arguments[0].scrollIntoView(true);", checkoutButton);
-            Thread.sleep(500);
-            
+            // Wait for checkout page to load (replaces 1000 + 500 + 1000 ms of sleeps)
             click(checkoutButton);
+            waitFor(ExpectedConditions.urlContains("checkout-step-one"), 2500, "checkout page");
             System.out.println("  → Clicked checkout button");
             
-            // Wait for checkout page to load
-            Thread.sleep(1000);
-            
         } catch (Exception e) {
             System.err.println("  ✗ Failed to click checkout: " + e.getMessage());
         }
-        return new CheckoutPage(driver);
+        return page(CheckoutPage.class);
     }
 
     /**
@@ -127,23 +130,15 @@ public class CartPage extends BasePage {
      */
     public ProductsPage clickContinueShopping() {
         try {
-            // Wait for cart page to fully load
-            Thread.sleep(1000);
-            
-            // Scroll to button
-            js.executeScript("arguments[0].scrollIntoView(true);", continueShoppingButton);
-            Thread.sleep(500);
-            
+            // Wait for products page to load (replaces 1000 + 500 + 1000 ms of sleeps)
             click(continueShoppingButton);
+            waitFor(ExpectedConditions.urlContains("inventory"), 2500, "products page");
             System.out.println("  → Clicked continue shopping");
             
-            // Wait for products page to load
-            Thread.sleep(1000);
-            
         } catch (Exception e) {
             System.err.println("  ✗ Failed to click continue shopping: " + e.getMessage());
         }
-        return new ProductsPage(driver);
+        return page(ProductsPage.class);
     }
 
     /**
@@ -152,7 +147,7 @@ public class CartPage extends BasePage {
     public CartPage removeFirstItem() {
         if (!removeButtons.isEmpty()) {
             String itemName = getText(cartItemNames.get(0));
-            click(removeButtons.get(0));
+            clickAndWaitForRemoval(removeButtons.get(0));
             System.out.println("  → Removed item from cart: " + itemName);
         } else {
             System.out.println("  ✗ Cart is empty, no items to remove");
@@ -166,7 +161,7 @@ public class CartPage extends BasePage {
     public CartPage removeItemByIndex(int index) {
         if (index >= 0 && index < removeButtons.size()) {
             String itemName = getText(cartItemNames.get(index));
-            click(removeButtons.get(index));
+            clickAndWaitForRemoval(removeButtons.get(index));
             System.out.println("  → Removed item from cart: " + itemName);
         } else {
             System.out.println("  ✗ Invalid item index: " + index);
@@ -178,42 +173,75 @@ public class CartPage extends BasePage {
      * Remove item from cart by name
      */
     public CartPage removeItemByName(String itemName) {
-        for (int i = 0; i < cartItemNames.size(); i++) {
-            if (getText(cartItemNames.get(i)).equalsIgnoreCase(itemName)) {
-                click(removeButtons.get(i));
-                System.out.println("  → Removed item from cart: " + itemName);
-                return this;
-            }
+        ItemIndex.Row row = itemIndex(CART_ROWS).get(itemName);
+        if (row == null || row.getButton() == null) {
+            System.out.println("  ✗ Item not found in cart: " + itemName);
+            return this;
         }
-        System.out.println("  ✗ Item not found in cart: " + itemName);
+        clickAndWaitForRemoval(row.getButton());
+        System.out.println("  → Removed item from cart: " + row.getName());
         return this;
     }
 
     /**
-     * Remove all items from cart
+     * Remove the named items with one batched click, checking the cart contents once at the end
+     * Falls back to removing one at a time if the expected rows are not gone.
+     */
+    public CartPage removeItemsByName(Collection<String> itemNames) {
+        return removeItems(itemNames);
+    }
+
+    /**
+     * Remove all items from cart with one batched click
      */
     public CartPage removeAllItems() {
-        int itemCount = removeButtons.size();
-        for (int i = itemCount - 1; i >= 0; i--) {
-            click(removeButtons.get(i));
+        return removeItems(null);
+    }
+
+    private CartPage removeItems(Collection<String> itemNames) {
+        ItemIndex.BulkClick result = clickRowButtons(CART_ROWS, itemNames, REMOVE);
+        for (String missing : result.getMissing(itemNames)) {
+            System.out.println("  ✗ Item not found in cart: " + missing);
+        }
+
+        int removed = result.getClicked().size();
+        int expected = result.getRowsBefore() - removed;
+        if (settles(Conditions.elementCount(CART_ROWS, expected), removed * CLICK_SLEEP_MILLIS,
+                "cart to hold " + expected + " items")) {
+            System.out.println("  → Removed " + removed + " items from cart in one batch");
+            return this;
+        }
+
+        System.out.println("  ✗ Cart did not shrink to " + expected + " items, removing one at a time");
+        for (String name : result.getClicked()) {
+            ItemIndex.Row row = itemIndex(CART_ROWS).get(name);
+            if (row != null && row.getButton() != null) {
+                clickAndWaitForRemoval(row.getButton());
+                System.out.println("  → Removed item from cart: " + row.getName());
+            }
         }
-        System.out.println("  → Removed all items from cart (" + itemCount + " items)");
         return this;
     }
 
+    /**
+     * Click a remove button and wait until the cart item disappears
+     */
+    private void clickAndWaitForRemoval(WebElement removeButton) {
+        click(removeButton, DomSignal.nodeRemoved(driver, ".cart_item"), 0);
+    }
+
     /**
      * Check if cart is empty
      */
     public boolean isCartEmpty() {
-        return cartItems.isEmpty();
+        return isAbsent(By.className("cart_item"), Duration.ZERO);
     }
 
     /**
      * Verify specific item is in cart
      */
     public boolean isItemInCart(String itemName) {
-        return cartItemNames.stream()
-            .anyMatch(item -> getText(item).equalsIgnoreCase(itemName));
+        return itemIndex(CART_ROWS).contains(itemName);
     }
 
     /**
@@ -221,9 +249,8 @@ public class CartPage extends BasePage {
      */
     public double getTotalPrice() {
         double total = 0.0;
-        for (WebElement priceElement : cartItemPrices) {
-            String priceText = getText(priceElement).replace("$", "");
-            total += Double.parseDouble(priceText);
+        for (String priceText : snapshot().getPrices()) {
+            total += PageSnapshot.parsePrice(priceText);
         }
         System.out.println("  → Total cart price: $" + total);
         return total;
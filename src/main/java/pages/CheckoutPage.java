@@ -1,9 +1,15 @@
 package pages;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import base.BasePage;
+import base.Conditions;
+
+import java.time.Duration;
 
 /**
  * CheckoutPage class - Page Object for Checkout Pages
@@ -13,52 +19,56 @@ public class CheckoutPage extends BasePage {
 
     // Checkout Step 1: Your Information
     @FindBy(id = "first-name")
-    private WebElement firstNameField;
+    WebElement firstNameField;
 
     @FindBy(id = "last-name")
-    private WebElement lastNameField;
+    WebElement lastNameField;
 
     @FindBy(id = "postal-code")
-    private WebElement postalCodeField;
+    WebElement postalCodeField;
 
     @FindBy(id = "continue")
-    private WebElement continueButton;
+    WebElement continueButton;
 
     @FindBy(id = "cancel")
-    private WebElement cancelButton;
+    WebElement cancelButton;
 
     // Checkout Step 2: Overview
     @FindBy(className = "summary_subtotal_label")
-    private WebElement subtotalLabel;
+    WebElement subtotalLabel;
 
     @FindBy(className = "summary_tax_label")
-    private WebElement taxLabel;
+    WebElement taxLabel;
 
     @FindBy(className = "summary_total_label")
-    private WebElement totalLabel;
+    WebElement totalLabel;
 
     @FindBy(id = "finish")
-    private WebElement finishButton;
+    WebElement finishButton;
 
     // Checkout Complete
     @FindBy(className = "complete-header")
-    private WebElement confirmationHeader;
+    WebElement confirmationHeader;
 
     @FindBy(className = "complete-text")
-    private WebElement confirmationText;
+    WebElement confirmationText;
 
     @FindBy(id = "back-to-products")
-    private WebElement backToProductsButton;
-
-    // Error message
-    @FindBy(css = "h3[data-test='error']")
-    private WebElement errorMessage;
+    WebElement backToProductsButton;
 
     // Constructor
     public CheckoutPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * Step header rendered (every checkout step has one)
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return Conditions.present(".title");
+    }
+
     // Checkout Step 1 Actions
 
     /**
@@ -92,7 +102,9 @@ public class CheckoutPage extends BasePage {
      * Click continue button
      */
     public CheckoutPage clickContinue() {
-        click(continueButton);
+        click(continueButton, ExpectedConditions.or(
+            ExpectedConditions.urlContains("checkout-step-two"),
+            Conditions.present("h3[data-test='error']")));
         System.out.println("  → Clicked continue button");
         return this;
     }
@@ -113,9 +125,9 @@ public class CheckoutPage extends BasePage {
      * Click cancel button
      */
     public CartPage clickCancel() {
-        click(cancelButton);
+        click(cancelButton, ExpectedConditions.not(ExpectedConditions.urlContains("checkout")));
         System.out.println("  → Clicked cancel button");
-        return new CartPage(driver);
+        return page(CartPage.class);
     }
 
     // Checkout Step 2 Actions
@@ -145,7 +157,7 @@ public class CheckoutPage extends BasePage {
      * Click finish button to complete order
      */
     public CheckoutPage clickFinish() {
-        click(finishButton);
+        click(finishButton, ExpectedConditions.urlContains("checkout-complete"));
         System.out.println("  → Clicked finish button");
         return this;
     }
@@ -170,7 +182,7 @@ public class CheckoutPage extends BasePage {
      * Check if order is complete
      */
     public boolean isOrderComplete() {
-        boolean isComplete = isDisplayed(confirmationHeader);
+        boolean isComplete = isExpectedDisplayed(By.className("complete-header"));
         if (isComplete) {
             System.out.println("  ✓ Order completed successfully!");
         }
@@ -181,29 +193,30 @@ public class CheckoutPage extends BasePage {
      * Click back to products button
      */
     public ProductsPage clickBackToProducts() {
-        click(backToProductsButton);
+        click(backToProductsButton, ExpectedConditions.urlContains("inventory"));
         System.out.println("  → Navigated back to products");
-        return new ProductsPage(driver);
+        return page(ProductsPage.class);
     }
 
     /**
      * Get error message
      */
     public String getErrorMessage() {
-        return getText(errorMessage);
+        return snapshot().getErrorText();
     }
 
     /**
      * Check if error message is displayed
      */
     public boolean isErrorMessageDisplayed() {
-        return isDisplayed(errorMessage);
+        return isMaybeDisplayed(By.cssSelector("h3[data-test='error']"), Duration.ZERO);
     }
 
     /**
      * Verify checkout page is loaded
      */
     public boolean isCheckoutPageLoaded() {
-        return isDisplayed(firstNameField) || isDisplayed(finishButton);
+        // One wait for either step; checking the form first stalled for the implicit wait on step two
+        return isExpectedDisplayed(By.cssSelector("#first-name, #finish"));
     }
 }
\ No newline at end of file
@@ -1,9 +1,18 @@
 package pages;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import base.BasePage;
+import base.Conditions;
+import utils.ConfigReader;
+import utils.SessionInjector;
+
+import java.net.URI;
+import java.time.Duration;
 
 /**
  * LoginPage class - Page Object for Login Page
@@ -13,25 +22,27 @@ public class LoginPage extends BasePage {
 
     // Page Elements using @FindBy annotation
     @FindBy(id = "user-name")
-    private WebElement usernameField;
+    WebElement usernameField;
 
     @FindBy(id = "password")
-    private WebElement passwordField;
+    WebElement passwordField;
 
     @FindBy(id = "login-button")
-    private WebElement loginButton;
-
-    @FindBy(css = "h3[data-test='error']")
-    private WebElement errorMessage;
-
-    @FindBy(className = "login_logo")
-    private WebElement loginLogo;
+    WebElement loginButton;
 
     // Constructor
     public LoginPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * Login form rendered
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return Conditions.present("#login-button");
+    }
+
     // Page Actions
 
     /**
@@ -56,7 +67,9 @@ public class LoginPage extends BasePage {
      * Click on login button
      */
     public void clickLoginButton() {
-        click(loginButton);
+        click(loginButton, ExpectedConditions.or(
+            ExpectedConditions.urlContains("inventory"),
+            Conditions.present("h3[data-test='error']")));
         System.out.println("  → Clicked login button");
     }
 
@@ -67,28 +80,53 @@ public class LoginPage extends BasePage {
         enterUsername(username);
         enterPassword(password);
         clickLoginButton();
-        return new ProductsPage(driver);
+        return page(ProductsPage.class);
+    }
+
+    /**
+     * Log in as a configured user (e.g. "username", "problem_user") without going through the UI
+     * The first login per user runs through the form and its session is captured for later tests.
+     * Set session.injection=false to always use the UI.
+     */
+    public ProductsPage loginWithSession(String userKey) {
+        ConfigReader config = ConfigReader.getInstance();
+        String username = config.getProperty(userKey);
+        boolean injectionEnabled = config.getBoolean("session.injection", true);
+        String inventoryUrl = URI.create(driver.getCurrentUrl()).resolve("/inventory.html").toString();
+
+        if (injectionEnabled && SessionInjector.inject(driver, username, inventoryUrl)) {
+            return page(ProductsPage.class);
+        }
+
+        ProductsPage productsPage = login(username, config.getPassword());
+        if (!driver.getCurrentUrl().contains("inventory")) {
+            throw new IllegalStateException("Login failed for " + username + ": " + getErrorMessage());
+        }
+        if (injectionEnabled) {
+            SessionInjector.capture(driver, username);
+        }
+        return productsPage;
     }
 
     /**
      * Get error message text
      */
     public String getErrorMessage() {
-        return getText(errorMessage);
+        return snapshot().getErrorText();
     }
 
     /**
      * Check if error message is displayed
      */
     public boolean isErrorMessageDisplayed() {
-        return isDisplayed(errorMessage);
+        return isMaybeDisplayed(By.cssSelector("h3[data-test='error']"), Duration.ZERO);
     }
 
     /**
      * Check if login page is displayed
      */
     public boolean isLoginPageDisplayed() {
-        return isDisplayed(loginLogo);
+        return isExpectedDisplayed(By.className("login_logo"));
     }
 
     /**
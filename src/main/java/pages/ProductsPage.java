@@ -1,11 +1,18 @@
 package pages;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import base.BasePage;
+import base.Conditions;
+import base.DomSignal;
+import base.ItemIndex;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,43 +20,49 @@ import java.util.List;
  * Contains all elements and actions for products functionality
  */
 public class ProductsPage extends BasePage {
+    private static final String PRODUCT_ROWS = ".inventory_item";
+    private static final String ADD_TO_CART = "Add to cart";
+    // Badge sleeps a single add used to pay on top of the click
+    private static final long ADD_SLEEP_MILLIS = 2300;
 
     // Page Elements
     @FindBy(className = "title")
-    private WebElement pageTitle;
+    WebElement pageTitle;
 
     @FindBy(className = "inventory_item")
-    private List<WebElement> productItems;
+    List<WebElement> productItems;
 
     @FindBy(className = "shopping_cart_link")
-    private WebElement cartIcon;
-
-    @FindBy(className = "shopping_cart_badge")
-    private WebElement cartBadge;
+    WebElement cartIcon;
 
     @FindBy(id = "react-burger-menu-btn")
-    private WebElement menuButton;
+    WebElement menuButton;
 
     @FindBy(id = "logout_sidebar_link")
-    private WebElement logoutLink;
+    WebElement logoutLink;
 
     @FindBy(css = ".inventory_item button")
-    private List<WebElement> addToCartButtons;
+    List<WebElement> addToCartButtons;
 
     @FindBy(className = "inventory_item_name")
-    private List<WebElement> productNames;
-
-    @FindBy(className = "inventory_item_price")
-    private List<WebElement> productPrices;
+    List<WebElement> productNames;
 
     @FindBy(className = "product_sort_container")
-    private WebElement sortDropdown;
+    WebElement sortDropdown;
 
     // Constructor
     public ProductsPage(WebDriver driver) {
         super(driver);
     }
 
+    /**
+     * Product list rendered
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return Conditions.present(PRODUCT_ROWS);
+    }
+
     // Page Actions
 
     /**
@@ -63,7 +76,7 @@ public class ProductsPage extends BasePage {
      * Get page title text
      */
     public String getPageTitle() {
-        return getText(pageTitle);
+        return snapshot().getTitle();
     }
 
     /**
@@ -78,16 +91,14 @@ public class ProductsPage extends BasePage {
      * Get list of all product names
      */
     public List<String> getAllProductNames() {
-        return productNames.stream()
-            .map(this::getText)
-            .toList();
+        return snapshot().getItemNames();
     }
 
     /**
      * Add first product to cart
      */
     public ProductsPage addFirstProductToCart() {
-        click(addToCartButtons.get(0));
+        clickAndWaitForBadge(addToCartButtons.get(0), 0);
         System.out.println("  → Added first product to cart");
         return this;
     }
@@ -116,24 +127,10 @@ public class ProductsPage extends BasePage {
             try {
                 String productName = getText(productNames.get(index));
                 
-                // Scroll to product first
-                js.executeScript("arguments[0].scrollIntoView({behavior: 'instant', block: 'center'});", 
-                    addToCartButtons.get(index));
-                Thread.sleep(300);
-                
-                // Click add to cart
-                click(addToCartButtons.get(index));
-                
-                // CRITICAL: Wait for cart badge to update
-                Thread.sleep(2000);  // Increased wait for Jenkins
-                
-                // Verify cart updated
-                try {
-                    wait.until(ExpectedConditions.visibilityOf(cartBadge));
-                    System.out.println("  → Added product to cart: " + productName + " (Cart: " + getCartItemCount() + ")");
-                } catch (Exception e) {
-                    System.out.println("  ⚠️ Cart badge not visible yet, but product clicked");
-                }
+                // Click add to cart and wait for cart badge to update
+                // (replaces the 300 + 2000 ms sleeps needed on Jenkins)
+                clickAndWaitForBadge(addToCartButtons.get(index), ADD_SLEEP_MILLIS);
+                System.out.println("  → Added product to cart: " + productName + " (Cart: " + getCartItemCount() + ")");
                 
             } catch (Exception e) {
                 System.err.println("  ✗ Failed to add product at index: " + index);
@@ -149,14 +146,55 @@ public class ProductsPage extends BasePage {
      * Add product to cart by name
      */
     public ProductsPage addProductToCartByName(String productName) {
-        for (int i = 0; i < productNames.size(); i++) {
-            if (getText(productNames.get(i)).equalsIgnoreCase(productName)) {
-                click(addToCartButtons.get(i));
-                System.out.println("  → Added product to cart: " + productName);
-                return this;
+        ItemIndex.Row row = itemIndex(PRODUCT_ROWS).get(productName);
+        if (row == null || row.getButton() == null) {
+            System.out.println("  ✗ Product not found: " + productName);
+            return this;
+        }
+        clickAndWaitForBadge(row.getButton(), 0);
+        System.out.println("  → Added product to cart: " + row.getName());
+        return this;
+    }
+
+    /**
+     * Add the named products to cart with one batched click, checking the cart badge once at the end
+     * Falls back to adding one at a time if the badge does not show the expected count.
+     */
+    public ProductsPage addProductsToCart(Collection<String> productNames) {
+        return addProducts(productNames);
+    }
+
+    /**
+     * Add every product not yet in the cart with one batched click
+     */
+    public ProductsPage addAllProducts() {
+        return addProducts(null);
+    }
+
+    private ProductsPage addProducts(Collection<String> productNames) {
+        ItemIndex.BulkClick result = clickRowButtons(PRODUCT_ROWS, productNames, ADD_TO_CART);
+        for (String missing : result.getMissing(productNames)) {
+            System.out.println("  ✗ Product not found: " + missing);
+        }
+
+        int added = result.getClicked().size();
+        int expected = result.getBadgeBefore() + added;
+        // One batch replaces the click and badge sleeps of every single add
+        if (settles(Conditions.textEquals(".shopping_cart_badge", expected > 0 ? String.valueOf(expected) : ""),
+                added * (CLICK_SLEEP_MILLIS + ADD_SLEEP_MILLIS), "cart badge to show " + expected)) {
+            System.out.println("  → Added " + added + " products to cart in one batch (Cart: " + expected + ")");
+            return this;
+        }
+
+        System.out.println("  ✗ Cart badge did not reach " + expected + ", adding products one at a time");
+        for (String name : result.getClicked()) {
+            // Each click starts a new page generation, so the row is looked up again every time
+            ItemIndex.Row row = itemIndex(PRODUCT_ROWS).get(name);
+            if (row != null && ADD_TO_CART.equalsIgnoreCase(row.getButtonText())) {
+                clickAndWaitForBadge(row.getButton(), 0);
+                System.out.println("  → Added product to cart: " + row.getName());
             }
         }
-        System.out.println("  ✗ Product not found: " + productName);
         return this;
     }
 
@@ -164,17 +202,18 @@ public class ProductsPage extends BasePage {
      * Click on cart icon to navigate to cart page
      */
     public CartPage clickCartIcon() {
-        click(cartIcon);
+        click(cartIcon, ExpectedConditions.urlContains("cart.html"));
         System.out.println("  → Clicked cart icon");
-        return new CartPage(driver);
+        return page(CartPage.class);
     }
 
     /**
      * Get cart item count from badge
      */
     public String getCartItemCount() {
-        if (isDisplayed(cartBadge)) {
-            String count = getText(cartBadge);
+        int badgeCount = snapshot().getBadgeCount();
+        if (badgeCount > 0) {
+            String count = String.valueOf(badgeCount);
             System.out.println("  → Cart item count: " + count);
             return count;
         }
@@ -182,18 +221,35 @@ public class ProductsPage extends BasePage {
         return "0";
     }
 
+    /**
+     * Click an add/remove button and wait until the cart badge shows the new count
+     */
+    private void clickAndWaitForBadge(WebElement button, long replacedSleepMillis) {
+        DomSignal badgeChanged = DomSignal.textChanges(driver, ".shopping_cart_badge");
+        String badge = badgeChanged.getInitialValue();
+        int current = badge.isEmpty() ? 0 : Integer.parseInt(badge);
+        int expected = button.getText().equalsIgnoreCase("Remove") ? current - 1 : current + 1;
+        String expectedText = expected > 0 ? String.valueOf(expected) : "";
+
+        String actual = click(button, badgeChanged, replacedSleepMillis);
+        if (!expectedText.equals(actual)) {
+            // Badge went through an intermediate render, poll until it settles
+            waitFor(Conditions.textEquals(".shopping_cart_badge", expectedText), 0, "cart badge to show " + expected);
+        }
+    }
+
     /**
      * Check if cart badge is displayed
      */
     public boolean isCartBadgeDisplayed() {
-        return isDisplayed(cartBadge);
+        return isMaybeDisplayed(By.className("shopping_cart_badge"), Duration.ZERO);
     }
 
     /**
      * Open menu
      */
     public ProductsPage openMenu() {
-        click(menuButton);
+        click(menuButton, ExpectedConditions.elementToBeClickable(logoutLink));
         System.out.println("  → Opened menu");
         return this;
     }
@@ -203,9 +259,9 @@ public class ProductsPage extends BasePage {
      */
     public LoginPage logout() {
         openMenu();
-        click(logoutLink);
+        click(logoutLink, Conditions.present("#login-button"));
         System.out.println("  → Logged out successfully");
-        return new LoginPage(driver);
+        return page(LoginPage.class);
     }
 
     /**
@@ -219,8 +275,9 @@ public class ProductsPage extends BasePage {
      * Get product price by index
      */
     public String getProductPriceByIndex(int index) {
-        if (index >= 0 && index < productPrices.size()) {
-            return getText(productPrices.get(index));
+        List<String> prices = snapshot().getPrices();
+        if (index >= 0 && index < prices.size()) {
+            return prices.get(index);
         }
         return null;
     }
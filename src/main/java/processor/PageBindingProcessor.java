@@ -0,0 +1,196 @@
+package processor;
+
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * PageBindingProcessor class - Generates a &lt;Page&gt;_Bindings class per page object at build time
+ * Each @FindBy field becomes a plain assignment of a LazyElement or LazyElementList, so pages
+ * are bound without reflection or proxies (see base.PageBindings). Classes the generator
+ * cannot bind (private/final/static @FindBy fields, @FindBys, @FindAll, other field types)
+ * get a warning and keep using PageFactory.
+ */
+@SupportedAnnotationTypes({
+    "org.openqa.selenium.support.FindBy",
+    "org.openqa.selenium.support.FindBys",
+    "org.openqa.selenium.support.FindAll"
+})
+public class PageBindingProcessor extends AbstractProcessor {
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String WEB_ELEMENT_LIST = "java.util.List<org.openqa.selenium.WebElement>";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> pages = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    pages.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement page : pages) {
+            generate(page);
+        }
+        // FindBy stays visible to other processors
+        return false;
+    }
+
+    private void generate(TypeElement page) {
+        StringBuilder locators = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        for (VariableElement field : ElementFilter.fieldsIn(page.getEnclosedElements())) {
+            FindBy findBy = field.getAnnotation(FindBy.class);
+            if (field.getAnnotation(FindBys.class) != null || field.getAnnotation(FindAll.class) != null) {
+                skip(page, field, "@FindBys/@FindAll are not supported");
+                return;
+            }
+            if (findBy == null) {
+                continue;
+            }
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+                    || modifiers.contains(Modifier.STATIC)) {
+                skip(page, field, "field must not be private, final or static");
+                return;
+            }
+
+            String type = field.asType().toString();
+            String lazyType;
+            if (WEB_ELEMENT.equals(type)) {
+                lazyType = "base.LazyElement";
+            } else if (WEB_ELEMENT_LIST.equals(type)) {
+                lazyType = "base.LazyElementList";
+            } else {
+                skip(page, field, "type must be WebElement or List<WebElement>");
+                return;
+            }
+
+            String by = toBy(findBy);
+            if (by == null) {
+                skip(page, field, "@FindBy must set exactly one locator");
+                return;
+            }
+            // By instances are immutable and costly to build, so each is created once
+            String constant = field.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+            locators.append("    private static final org.openqa.selenium.By ").append(constant).append(" = ")
+                .append(by).append(";\n");
+            assignments.append("        page.").append(field.getSimpleName()).append(" = new ").append(lazyType)
+                .append("(context, ").append(constant).append(");\n");
+        }
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(page);
+        String packageName = pkg.getQualifiedName().toString();
+        String pageName = page.getSimpleName().toString();
+        String bindingName = pageName + "_Bindings";
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+            .append("public final class ").append(bindingName).append(" implements base.ElementBinder<")
+            .append(pageName).append("> {\n")
+            .append(locators)
+            .append("\n")
+            .append("    @Override\n")
+            .append("    public void bind(").append(pageName).append(" page, org.openqa.selenium.SearchContext context) {\n")
+            .append(assignments)
+            .append("    }\n")
+            .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? bindingName : packageName + "." + bindingName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, page);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Cannot write " + qualifiedName + ": " + e.getMessage(), page);
+        }
+    }
+
+    /**
+     * Java expression creating the By of a @FindBy, or null if zero or several locators are set
+     */
+    private String toBy(FindBy findBy) {
+        String by = null;
+        int count = 0;
+        if (findBy.how() != How.UNSET) {
+            by = howToBy(findBy.how(), findBy.using());
+            count++;
+        }
+        String[][] locators = {
+            {"id", findBy.id()}, {"name", findBy.name()}, {"className", findBy.className()},
+            {"cssSelector", findBy.css()}, {"tagName", findBy.tagName()}, {"linkText", findBy.linkText()},
+            {"partialLinkText", findBy.partialLinkText()}, {"xpath", findBy.xpath()}
+        };
+        for (String[] locator : locators) {
+            if (!locator[1].isEmpty()) {
+                by = "org.openqa.selenium.By." + locator[0] + "(" + literal(locator[1]) + ")";
+                count++;
+            }
+        }
+        return count == 1 ? by : null;
+    }
+
+    private String howToBy(How how, String using) {
+        switch (how) {
+            case CLASS_NAME:
+                return "org.openqa.selenium.By.className(" + literal(using) + ")";
+            case CSS:
+                return "org.openqa.selenium.By.cssSelector(" + literal(using) + ")";
+            case ID:
+                return "org.openqa.selenium.By.id(" + literal(using) + ")";
+            case ID_OR_NAME:
+                return "new org.openqa.selenium.support.pagefactory.ByIdOrName(" + literal(using) + ")";
+            case LINK_TEXT:
+                return "org.openqa.selenium.By.linkText(" + literal(using) + ")";
+            case NAME:
+                return "org.openqa.selenium.By.name(" + literal(using) + ")";
+            case PARTIAL_LINK_TEXT:
+                return "org.openqa.selenium.By.partialLinkText(" + literal(using) + ")";
+            case TAG_NAME:
+                return "org.openqa.selenium.By.tagName(" + literal(using) + ")";
+            case XPATH:
+                return "org.openqa.selenium.By.xpath(" + literal(using) + ")";
+            default:
+                return null;
+        }
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private void skip(TypeElement page, VariableElement field, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+            page.getSimpleName() + " keeps using PageFactory: " + field.getSimpleName() + ": " + reason, field);
+    }
+}
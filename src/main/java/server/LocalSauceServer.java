@@ -0,0 +1,417 @@
+package server;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import utils.ConfigReader;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * LocalSauceServer class - Embedded stand-in for https://www.saucedemo.com/
+ * Serves the pinned pages and assets under saucedemo/ on the classpath from localhost,
+ * so the suite runs offline. Every response is built once at startup, gzip-compressed
+ * ahead of time and served with an ETag; assets are cached for good by the browser.
+ *
+ * Latency and faults can be injected per route from config.properties:
+ *   local.server.latency./inventory.html=300      fixed delay in ms
+ *   local.server.latency./static/*=50-150         uniform random delay, prefix match
+ *   local.server.fault./cart.html=503:0.25        status code returned for 25% of requests
+ *
+ * Selected with target=local and started by startIfLocal(); run standalone with: java server.LocalSauceServer
+ */
+public class LocalSauceServer {
+    private static final String RESOURCE_ROOT = "saucedemo/";
+    private static final String APP_SHELL = "/index.html";
+    private static final List<String> APP_ROUTES = Arrays.asList("/", "/inventory.html", "/cart.html",
+        "/checkout-step-one.html", "/checkout-step-two.html", "/checkout-complete.html");
+
+    private static final String LATENCY_PREFIX = "local.server.latency.";
+    private static final String FAULT_PREFIX = "local.server.fault.";
+
+    private static LocalSauceServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Resource> resources = new HashMap<>();
+    private final Map<String, long[]> latencies;
+    private final Map<String, Fault> faults;
+
+    private final Map<String, LongAdder> requestsByRoute = new ConcurrentHashMap<>();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder faultsInjected = new LongAdder();
+
+    private LocalSauceServer(int port) throws IOException {
+        loadResources();
+        ConfigReader config = ConfigReader.getInstance();
+        latencies = parseLatencies(config.getPropertiesWithPrefix(LATENCY_PREFIX));
+        faults = parseFaults(config.getPropertiesWithPrefix(FAULT_PREFIX));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "local-sauce-server-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 64);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Start the shared server on local.server.port (0 picks a free port), or return it if already running
+     */
+    public static synchronized LocalSauceServer start() {
+        if (instance == null) {
+            int port = ConfigReader.getInstance().getInt("local.server.port", 0);
+            try {
+                instance = new LocalSauceServer(port);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to start local SauceDemo server on port " + port, e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(LocalSauceServer::stop));
+            System.out.println("✓ Local SauceDemo server started: " + instance.getBaseUrl()
+                + " (" + instance.resources.size() + " resources)");
+        }
+        return instance;
+    }
+
+    /**
+     * With target=local, start the shared server and point the url property at it
+     * The URL is set as a system property, so the reloaded config's getUrl() returns it.
+     */
+    public static synchronized void startIfLocal() {
+        ConfigReader config = ConfigReader.getInstance();
+        if (!"local".equalsIgnoreCase(config.getProperty("target", "remote"))) {
+            return;
+        }
+        String url = start().getBaseUrl();
+        if (!url.equals(config.getUrl())) {
+            System.setProperty("url", url);
+            ConfigReader.reload();
+        }
+    }
+
+    /**
+     * Stop the shared server if it is running
+     */
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            System.out.println("✓ Local SauceDemo server stopped (" + instance.getStats() + ")");
+            instance = null;
+        }
+    }
+
+    /**
+     * Base URL of the application, with trailing slash like the url property
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Request statistics for reporting
+     */
+    public String getStats() {
+        long total = requestsByRoute.values().stream().mapToLong(LongAdder::sum).sum();
+        return String.format("requests=%d, not modified=%d, faults injected=%d",
+            total, notModified.sum(), faultsInjected.sum());
+    }
+
+    public Map<String, Long> getRequestsByRoute() {
+        Map<String, Long> counts = new HashMap<>();
+        requestsByRoute.forEach((route, count) -> counts.put(route, count.sum()));
+        return counts;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        start();
+        System.out.println("  → Press Ctrl+C to stop");
+        Thread.currentThread().join();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            requestsByRoute.computeIfAbsent(path, p -> new LongAdder()).increment();
+
+            long delay = delayFor(path);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                sendEmpty(exchange, 405);
+                return;
+            }
+
+            Fault fault = match(faults, path);
+            if (fault != null && ThreadLocalRandom.current().nextDouble() < fault.probability) {
+                faultsInjected.increment();
+                sendEmpty(exchange, fault.status);
+                return;
+            }
+
+            Resource resource = resources.get(APP_ROUTES.contains(path) ? APP_SHELL : path);
+            if (resource == null) {
+                sendEmpty(exchange, 404);
+                return;
+            }
+            send(exchange, resource, "HEAD".equals(method));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void send(HttpExchange exchange, Resource resource, boolean headOnly) throws IOException {
+        Headers request = exchange.getRequestHeaders();
+        Headers response = exchange.getResponseHeaders();
+        response.set("ETag", resource.etag);
+        response.set("Cache-Control", resource.cacheControl);
+        response.set("Vary", "Accept-Encoding");
+
+        if (resource.etag.equals(request.getFirst("If-None-Match"))) {
+            notModified.increment();
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        String acceptEncoding = request.getFirst("Accept-Encoding");
+        boolean gzip = resource.gzipped != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        byte[] body = gzip ? resource.gzipped : resource.content;
+
+        response.set("Content-Type", resource.contentType);
+        if (gzip) {
+            response.set("Content-Encoding", "gzip");
+        }
+        if (headOnly) {
+            response.set("Content-Length", String.valueOf(body.length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private long delayFor(String path) {
+        long[] range = match(latencies, path);
+        if (range == null) {
+            return 0;
+        }
+        return range[0] == range[1] ? range[0] : ThreadLocalRandom.current().nextLong(range[0], range[1] + 1);
+    }
+
+    /**
+     * Find the setting for a path: exact route first, then the longest matching prefix route ending in *, then *
+     */
+    private static <T> T match(Map<String, T> routes, String path) {
+        T exact = routes.get(path);
+        if (exact != null) {
+            return exact;
+        }
+        T best = null;
+        int bestLength = -1;
+        for (Map.Entry<String, T> entry : routes.entrySet()) {
+            String route = entry.getKey();
+            if (route.endsWith("*")) {
+                String prefix = route.substring(0, route.length() - 1);
+                if (path.startsWith(prefix) && prefix.length() > bestLength) {
+                    best = entry.getValue();
+                    bestLength = prefix.length();
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Load images, then scripts and styles, then HTML; each text file gets the URLs of the files
+     * loaded before it stamped with their content hash, so assets can be cached as immutable
+     * and still change between builds
+     */
+    private void loadResources() throws IOException {
+        List<String> names = readManifest();
+        names.sort((a, b) -> Integer.compare(loadOrder(a), loadOrder(b)));
+        for (String name : names) {
+            byte[] content = readResource(RESOURCE_ROOT + name);
+            if (loadOrder(name) > 0) {
+                String text = new String(content, StandardCharsets.UTF_8);
+                for (Map.Entry<String, Resource> asset : resources.entrySet()) {
+                    String url = asset.getKey();
+                    String version = asset.getValue().etag.replace("\"", "");
+                    text = text.replace(url + "\"", url + "?v=" + version + "\"")
+                               .replace(url + "'", url + "?v=" + version + "'");
+                }
+                content = text.getBytes(StandardCharsets.UTF_8);
+            }
+            resources.put("/" + name, new Resource(name, content));
+        }
+    }
+
+    private static int loadOrder(String name) {
+        if (name.endsWith(".html")) {
+            return 2;
+        }
+        return name.endsWith(".js") || name.endsWith(".css") ? 1 : 0;
+    }
+
+    private static List<String> readManifest() throws IOException {
+        List<String> names = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                openResource(RESOURCE_ROOT + "manifest.txt"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    names.add(line);
+                }
+            }
+        }
+        return names;
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream in = openResource(name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static InputStream openResource(String name) throws IOException {
+        InputStream in = LocalSauceServer.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IOException("Resource not found on classpath: " + name);
+        }
+        return in;
+    }
+
+    private static Map<String, long[]> parseLatencies(Map<String, String> settings) {
+        Map<String, long[]> result = new HashMap<>();
+        settings.forEach((route, value) -> {
+            String[] bounds = value.trim().split("-");
+            long min = Long.parseLong(bounds[0].trim());
+            long max = bounds.length > 1 ? Long.parseLong(bounds[1].trim()) : min;
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Invalid latency for route " + route + ": " + value);
+            }
+            result.put(route, new long[] {min, max});
+        });
+        return result;
+    }
+
+    private static Map<String, Fault> parseFaults(Map<String, String> settings) {
+        Map<String, Fault> result = new HashMap<>();
+        settings.forEach((route, value) -> {
+            String[] parts = value.trim().split(":");
+            int status = Integer.parseInt(parts[0].trim());
+            double probability = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : 1.0;
+            if (status < 400 || probability < 0 || probability > 1) {
+                throw new IllegalArgumentException("Invalid fault for route " + route + ": " + value);
+            }
+            result.put(route, new Fault(status, probability));
+        });
+        return result;
+    }
+
+    /**
+     * A classpath file prepared for serving: raw and gzip bodies, validator and cache policy
+     */
+    private static class Resource {
+        private final byte[] content;
+        private final byte[] gzipped;
+        private final String etag;
+        private final String contentType;
+        private final String cacheControl;
+
+        private Resource(String name, byte[] content) throws IOException {
+            this.content = content;
+            this.contentType = contentType(name);
+            this.etag = "\"" + sha256(content).substring(0, 16) + "\"";
+            // The HTML shell is revalidated on every navigation, hash-stamped assets never are
+            this.cacheControl = name.endsWith(".html") ? "no-cache" : "public, max-age=31536000, immutable";
+
+            byte[] compressed = gzip(content);
+            this.gzipped = compressed.length < content.length ? compressed : null;
+        }
+
+        private static String contentType(String name) {
+            if (name.endsWith(".html")) {
+                return "text/html; charset=utf-8";
+            } else if (name.endsWith(".js")) {
+                return "application/javascript; charset=utf-8";
+            } else if (name.endsWith(".css")) {
+                return "text/css; charset=utf-8";
+            } else if (name.endsWith(".svg")) {
+                return "image/svg+xml";
+            } else if (name.endsWith(".png")) {
+                return "image/png";
+            }
+            return "application/octet-stream";
+        }
+
+        private static byte[] gzip(byte[] content) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(content);
+            }
+            return buffer.toByteArray();
+        }
+
+        private static String sha256(byte[] content) {
+            try {
+                StringBuilder hex = new StringBuilder();
+                for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+                    hex.append(String.format("%02x", b));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class Fault {
+        private final int status;
+        private final double probability;
+
+        private Fault(int status, double probability) {
+            this.status = status;
+            this.probability = probability;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package utils;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CommandMetrics class - Records the latency of every WebDriver command
+ * Drivers are wrapped with Selenium's EventFiringDecorator; latencies go into per-command
+ * histograms and into per-page-method histograms for commands issued from a page object.
+ * Results are published to the Extent report and to a JSON file per run.
+ */
+public class CommandMetrics implements WebDriverListener {
+    private static final CommandMetrics INSTANCE = new CommandMetrics();
+
+    private static final Map<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byPageMethod = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<CallStack> calls = ThreadLocal.withInitial(CallStack::new);
+    private static final ThreadLocal<String> pageMethod = new ThreadLocal<>();
+
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Wrap a driver so every command it issues is timed
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if (!ConfigReader.getInstance().getBoolean("metrics.enabled", true)) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * Attribute commands on this thread to the page object method calling the current helper
+     * Nested calls keep the outer attribution, so the stack is walked once per page action.
+     * @return Previous attribution, to be passed to exitPageMethod()
+     */
+    public static String enterPageMethod() {
+        String previous = pageMethod.get();
+        if (previous == null) {
+            pageMethod.set(stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("pages."))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring("pages.".length()) + "." + frame.getMethodName())
+                .orElse(null)));
+        }
+        return previous;
+    }
+
+    /**
+     * Restore the attribution returned by enterPageMethod()
+     */
+    public static void exitPageMethod(String previous) {
+        if (previous == null) {
+            pageMethod.remove();
+        } else {
+            pageMethod.set(previous);
+        }
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        calls.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method);
+    }
+
+    private static void record(Method method) {
+        long nanos = System.nanoTime() - calls.get().pop();
+        if (method.getDeclaringClass() == Object.class) {
+            return;
+        }
+        histogram(byCommand, method.getName()).record(nanos);
+
+        String page = pageMethod.get();
+        if (page != null) {
+            histogram(byPageMethod, page).record(nanos);
+        }
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> histograms, String key) {
+        LatencyHistogram histogram = histograms.get(key);
+        return histogram != null ? histogram : histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Publish all histograms as a report section and a JSON file
+     * @return Path of the JSON file, or null if nothing was recorded
+     */
+    public static String publish() {
+        if (byCommand.isEmpty()) {
+            return null;
+        }
+
+        String commands = MarkupHelper.createTable(toTable("Command", byCommand)).getMarkup();
+        if (byPageMethod.isEmpty()) {
+            ExtentManager.addSection("WebDriver Command Latency", commands);
+        } else {
+            ExtentManager.addSection("WebDriver Command Latency", commands,
+                MarkupHelper.createTable(toTable("Page method", byPageMethod)).getMarkup());
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("commands", toJson(byCommand));
+        json.put("pageMethods", toJson(byPageMethod));
+
+        File metricsDir = new File(ShardContext.getOutputDir() + "metrics/");
+        if (!metricsDir.exists()) {
+            metricsDir.mkdirs();
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        File file = new File(metricsDir, "command-latency_" + timestamp + ".json");
+        try {
+            Files.write(file.toPath(), new Json().toJson(json).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Command latency metrics saved: " + file.getPath());
+            return file.getPath();
+        } catch (IOException e) {
+            System.err.println("✗ Failed to write command latency metrics: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Clear all recorded latencies
+     */
+    public static void reset() {
+        byCommand.clear();
+        byPageMethod.clear();
+    }
+
+    private static String[][] toTable(String keyTitle, Map<String, LatencyHistogram> histograms) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {keyTitle, "Count", "Total (ms)", "p50 (ms)", "p95 (ms)", "p99 (ms)"});
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            rows.add(new String[] {
+                entry.getKey(),
+                String.valueOf(h.getCount()),
+                millis(h.getTotalNanos()),
+                millis(h.getPercentileNanos(50)),
+                millis(h.getPercentileNanos(95)),
+                millis(h.getPercentileNanos(99))
+            });
+        }
+        return rows.toArray(new String[0][]);
+    }
+
+    private static Map<String, Object> toJson(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> result = new TreeMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", h.getCount());
+            stats.put("totalNanos", h.getTotalNanos());
+            stats.put("p50Nanos", h.getPercentileNanos(50));
+            stats.put("p95Nanos", h.getPercentileNanos(95));
+            stats.put("p99Nanos", h.getPercentileNanos(99));
+            result.put(entry.getKey(), stats);
+        }
+        return result;
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Start times of in-flight commands on one thread
+     */
+    private static class CallStack {
+        private long[] starts = new long[8];
+        private int depth;
+
+        private void push(long start) {
+            if (depth == starts.length) {
+                starts = Arrays.copyOf(starts, depth * 2);
+            }
+            starts[depth++] = start;
+        }
+
+        private long pop() {
+            return depth == 0 ? System.nanoTime() : starts[--depth];
+        }
+    }
+}
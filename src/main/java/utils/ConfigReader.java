@@ -1,52 +1,156 @@
 package utils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
- * ConfigReader class to read configuration from config.properties file
- * This class uses Singleton pattern to ensure only one instance exists
+ * ConfigReader class to read configuration from config.properties
+ * Each instance is an immutable snapshot built from four layers, later ones winning:
+ * config.properties on the classpath, the config file on disk (config.file, default
+ * src/test/resources/config.properties), environment variables (implicit.wait → IMPLICIT_WAIT)
+ * and system properties. The current snapshot is published through a volatile field, so
+ * readers never lock. Typed values are parsed once per snapshot.
+ * With config.watch=true the file is watched and a new snapshot is published on change.
  */
 public class ConfigReader {
-    private static ConfigReader instance;
-    private Properties properties;
+    private static final String RESOURCE_NAME = "config.properties";
+    private static final String DEFAULT_FILE = "src/test/resources/config.properties";
 
-    // Private constructor to prevent instantiation
-    private ConfigReader() {
-        properties = new Properties();
-        loadProperties();
+    private static volatile ConfigReader instance = load();
+    private static Thread watcher;
+
+    private final Map<String, String> properties;
+    private final Map<String, Object> parsed = new ConcurrentHashMap<>();
+
+    private ConfigReader(Map<String, String> properties) {
+        this.properties = Collections.unmodifiableMap(properties);
     }
 
-    // Get singleton instance
+    // Get current snapshot
     public static ConfigReader getInstance() {
-        if (instance == null) {
-            synchronized (ConfigReader.class) {
-                if (instance == null) {
-                    instance = new ConfigReader();
-                }
-            }
-        }
         return instance;
     }
 
-    // Load properties from file
-    private void loadProperties() {
-        try {
-            FileInputStream fis = new FileInputStream("src/test/resources/config.properties");
-            properties.load(fis);
-            fis.close();
-            System.out.println("✓ Configuration loaded successfully");
+    // Rebuild the snapshot from all layers and publish it
+    public static ConfigReader reload() {
+        instance = load();
+        return instance;
+    }
+
+    private static ConfigReader load() {
+        Map<String, String> values = new HashMap<>();
+
+        // 1. Classpath
+        try (InputStream in = ConfigReader.class.getClassLoader().getResourceAsStream(RESOURCE_NAME)) {
+            if (in != null) {
+                putAll(values, in);
+            }
         } catch (IOException e) {
-            System.err.println("✗ Failed to load config.properties file");
-            e.printStackTrace();
+            System.err.println("✗ Failed to read " + RESOURCE_NAME + " from classpath: " + e.getMessage());
+        }
+
+        // 2. File on disk
+        Path file = getConfigFile();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                putAll(values, in);
+            } catch (IOException e) {
+                System.err.println("✗ Failed to read config file: " + file);
+            }
+        }
+        if (values.isEmpty()) {
             throw new RuntimeException("Configuration file not found!");
         }
+
+        // 3. Environment, for keys already defined
+        for (String key : values.keySet().toArray(new String[0])) {
+            String value = System.getenv(key.toUpperCase().replace('.', '_'));
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+
+        // 4. System properties
+        Properties system = System.getProperties();
+        for (String key : system.stringPropertyNames()) {
+            values.put(key, system.getProperty(key));
+        }
+
+        System.out.println("✓ Configuration loaded successfully");
+        ConfigReader snapshot = new ConfigReader(values);
+        if (snapshot.getBoolean("config.watch", false)) {
+            startWatching(file);
+        }
+        return snapshot;
+    }
+
+    private static void putAll(Map<String, String> values, InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+    }
+
+    private static Path getConfigFile() {
+        String file = System.getProperty("config.file", System.getenv("CONFIG_FILE"));
+        return Paths.get(file != null ? file : DEFAULT_FILE).toAbsolutePath();
+    }
+
+    /**
+     * Publish a new snapshot whenever the config file changes
+     */
+    private static synchronized void startWatching(Path file) {
+        if (watcher != null || !Files.exists(file)) {
+            return;
+        }
+        watcher = new Thread(() -> {
+            try (WatchService service = FileSystems.getDefault().newWatchService()) {
+                file.getParent().register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+                while (true) {
+                    WatchKey key = service.take();
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= file.getFileName().equals(event.context());
+                    }
+                    key.reset();
+                    if (changed) {
+                        // Editors write in several steps, let the file settle
+                        Thread.sleep(100);
+                        reload();
+                        System.out.println("✓ Configuration reloaded: " + file.getFileName());
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                System.err.println("✗ Configuration watcher stopped: " + e.getMessage());
+            }
+        }, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
     }
 
     // Get property value by key
     public String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = properties.get(key);
         if (value == null) {
             System.err.println("✗ Property not found: " + key);
         }
@@ -55,10 +159,77 @@ public class ConfigReader {
 
     // Get property with default value
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return properties.getOrDefault(key, defaultValue);
+    }
+
+    // Get int property
+    public int getInt(String key, int defaultValue) {
+        Integer value = parse("int:", key, Integer::valueOf);
+        return value != null ? value : defaultValue;
+    }
+
+    // Get long property
+    public long getLong(String key, long defaultValue) {
+        Long value = parse("long:", key, Long::valueOf);
+        return value != null ? value : defaultValue;
+    }
+
+    // Get double property
+    public double getDouble(String key, double defaultValue) {
+        Double value = parse("double:", key, Double::valueOf);
+        return value != null ? value : defaultValue;
+    }
+
+    // Get boolean property
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Boolean value = parse("boolean:", key, Boolean::valueOf);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get duration property: a bare number is in the given unit, or use a suffix (500ms, 20s, 2m)
+     */
+    public Duration getDuration(String key, Duration defaultValue, ChronoUnit unit) {
+        Duration value = parse("duration:" + unit + ":", key, text -> parseDuration(text, unit));
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Parsed value of a key, cached per snapshot; null if the key is absent
+     * Defaults are never cached, callers may pass different ones for the same key.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T parse(String type, String key, Function<String, T> parser) {
+        String text = properties.get(key);
+        if (text == null) {
+            return null;
+        }
+        return (T) parsed.computeIfAbsent(type + key, k -> parser.apply(text.trim()));
+    }
+
+    private static Duration parseDuration(String value, ChronoUnit unit) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim()));
+        } else if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1).trim()));
+        } else if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1).trim()));
+        }
+        return Duration.of(Long.parseLong(value), unit);
+    }
+
+    // Get all properties whose key starts with prefix, keyed by the rest of the key
+    public Map<String, String> getPropertiesWithPrefix(String prefix) {
+        Map<String, String> result = new HashMap<>();
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                result.put(entry.getKey().substring(prefix.length()), entry.getValue());
+            }
+        }
+        return result;
     }
 
-    // Get URL
+    // Get URL (with target=local, LocalSauceServer.startIfLocal() points it at the embedded stand-in)
     public String getUrl() {
         return getProperty("url");
     }
@@ -77,4 +248,4 @@ public class ConfigReader {
     public String getPassword() {
         return getProperty("password");
     }
-}
\ No newline at end of file
+}
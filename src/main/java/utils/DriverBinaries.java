@@ -0,0 +1,202 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DriverBinaries class to resolve browser driver binaries once per JVM
+ * The first lookup for a browser detects the installed browser version and checks an
+ * on-disk manifest (browser + version → driver path) before falling back to WebDriverManager.
+ * Later lookups are answered from memory. With driver.offline=true the network is never used.
+ */
+public class DriverBinaries {
+    private static final Map<String, Resolution> resolved = new ConcurrentHashMap<>();
+    private static final Pattern VERSION = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+
+    private static final Map<String, String> DRIVER_PROPERTIES = new LinkedHashMap<>();
+
+    static {
+        DRIVER_PROPERTIES.put("chrome", "webdriver.chrome.driver");
+        DRIVER_PROPERTIES.put("firefox", "webdriver.gecko.driver");
+        DRIVER_PROPERTIES.put("edge", "webdriver.edge.driver");
+    }
+
+    /**
+     * Make the driver binary for a browser available to Selenium
+     * @param browser chrome, firefox or edge
+     * @return Path of the driver binary
+     */
+    public static String resolve(String browser) {
+        String name = browser.toLowerCase();
+        Resolution resolution = resolved.get(name);
+        if (resolution == null) {
+            resolution = resolved.computeIfAbsent(name, DriverBinaries::resolveOnce);
+        }
+        return resolution.driverPath;
+    }
+
+    /**
+     * Summary of every resolution done in this JVM, for the report
+     */
+    public static String getStats() {
+        if (resolved.isEmpty()) {
+            return "no drivers resolved";
+        }
+        StringBuilder stats = new StringBuilder();
+        for (Map.Entry<String, Resolution> entry : resolved.entrySet()) {
+            Resolution r = entry.getValue();
+            if (stats.length() > 0) {
+                stats.append("; ");
+            }
+            stats.append(String.format("%s %s → driver %s from %s in %d ms",
+                entry.getKey(), r.browserVersion, r.driverVersion, r.source, r.millis));
+        }
+        return stats.toString();
+    }
+
+    private static Resolution resolveOnce(String browser) {
+        String driverProperty = DRIVER_PROPERTIES.get(browser);
+        if (driverProperty == null) {
+            throw new IllegalArgumentException("Browser not supported: " + browser);
+        }
+
+        long start = System.nanoTime();
+        ConfigReader config = ConfigReader.getInstance();
+        boolean offline = config.getBoolean("driver.offline", false);
+        Path manifestPath = Paths.get(config.getProperty("driver.manifest",
+            System.getProperty("user.home") + "/.cache/saucedemo-drivers/manifest.properties"));
+
+        WebDriverManager wdm = WebDriverManager.getInstance(browser).useLocalCommandsPropertiesFirst();
+        String browserVersion = detectBrowserVersion(wdm);
+        Properties manifest = loadManifest(manifestPath);
+        String key = browser + "." + browserVersion;
+
+        String source;
+        String driverPath;
+        String driverVersion;
+        String[] entry = manifest.getProperty(key, "").split("\\|");
+        if (entry.length == 2 && isExecutable(entry[0])) {
+            driverPath = entry[0];
+            driverVersion = entry[1];
+            source = "manifest";
+        } else if (offline) {
+            throw new IllegalStateException("driver.offline=true but " + manifestPath
+                + " has no usable driver for " + browser + " " + browserVersion);
+        } else {
+            if (!"unknown".equals(browserVersion)) {
+                wdm.browserVersion(majorVersion(browserVersion));
+            }
+            wdm.setup();
+            driverPath = wdm.getDownloadedDriverPath();
+            driverVersion = wdm.getDownloadedDriverVersion();
+            manifest.setProperty(key, driverPath + "|" + driverVersion);
+            saveManifest(manifestPath, manifest);
+            source = "WebDriverManager";
+        }
+
+        System.setProperty(driverProperty, driverPath);
+        Resolution resolution = new Resolution(browserVersion, driverVersion, source,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), driverPath);
+        System.out.println("✓ Driver resolved: " + browser + " " + browserVersion + " → " + driverPath
+            + " (" + source + ", " + resolution.millis + " ms)");
+        return resolution;
+    }
+
+    /**
+     * Ask the installed browser binary for its version, without touching the network
+     */
+    private static String detectBrowserVersion(WebDriverManager wdm) {
+        try {
+            Optional<Path> browserPath = wdm.getBrowserPath();
+            if (browserPath.isPresent()) {
+                Process process = new ProcessBuilder(browserPath.get().toString(), "--version")
+                    .redirectErrorStream(true).start();
+                String output;
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                    output = reader.readLine();
+                }
+                process.waitFor(10, TimeUnit.SECONDS);
+                Matcher matcher = VERSION.matcher(output == null ? "" : output);
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("✗ Could not detect browser version: " + e.getMessage());
+        }
+        return "unknown";
+    }
+
+    private static boolean isExecutable(String path) {
+        return new File(path).canExecute();
+    }
+
+    private static Properties loadManifest(Path path) {
+        Properties manifest = new Properties();
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                System.err.println("✗ Ignoring unreadable driver manifest: " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Write to a temporary file and move it into place, so concurrent JVMs never see half a manifest
+     */
+    private static void saveManifest(Path path, Properties manifest) {
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), "manifest", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                manifest.store(out, "Driver binaries by browser version (browser.version=driverPath|driverVersion)");
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to save driver manifest: " + e.getMessage());
+        }
+    }
+
+    private static String majorVersion(String version) {
+        int dot = version.indexOf('.');
+        return dot < 0 ? version : version.substring(0, dot);
+    }
+
+    private static class Resolution {
+        private final String browserVersion;
+        private final String driverVersion;
+        private final String source;
+        private final long millis;
+        private final String driverPath;
+
+        private Resolution(String browserVersion, String driverVersion, String source, long millis, String driverPath) {
+            this.browserVersion = browserVersion;
+            this.driverVersion = driverVersion;
+            this.source = source;
+            this.millis = millis;
+            this.driverPath = driverPath;
+        }
+    }
+}
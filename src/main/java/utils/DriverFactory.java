@@ -0,0 +1,123 @@
+package utils;
+
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * DriverFactory class to create new browser sessions
+ * Used by DriverPool whenever no warm session is available
+ * Sessions are local, or on a Selenium Grid when execution=grid
+ */
+public class DriverFactory {
+
+    /**
+     * Create a new WebDriver for the configured browser
+     * @param config Configuration to read browser settings from
+     * @return Freshly started WebDriver
+     */
+    public static WebDriver createDriver(ConfigReader config) {
+        String browser = config.getBrowser().toLowerCase();
+        MutableCapabilities options = createOptions(browser, config);
+        WebDriver driver;
+
+        if (GridExecution.isEnabled(config)) {
+            driver = GridExecution.createDriver(options);
+        } else {
+            // Resolved once per JVM, free for every session after the first
+            DriverBinaries.resolve(browser);
+
+            switch (browser) {
+                case "chrome":
+                    driver = new ChromeDriver((ChromeOptions) options);
+                    break;
+
+                case "firefox":
+                    driver = new FirefoxDriver((FirefoxOptions) options);
+                    break;
+
+                default:
+                    driver = new EdgeDriver((EdgeOptions) options);
+                    break;
+            }
+        }
+
+        driver.manage().window().maximize();
+
+        // Increased timeouts for Jenkins
+        driver.manage().timeouts().implicitlyWait(getImplicitWait(config));
+        driver.manage().timeouts().pageLoadTimeout(
+            config.getDuration("page.load.timeout", Duration.ofSeconds(60), ChronoUnit.SECONDS));
+        driver.manage().timeouts().scriptTimeout(getScriptTimeout(config));
+
+        System.out.println("✓ Browser started: " + browser);
+        WebDriver decorated = CommandMetrics.decorate(driver);
+        GridExecution.register(decorated, driver);
+        return decorated;
+    }
+
+    /**
+     * Browser options shared by local and grid sessions
+     */
+    private static MutableCapabilities createOptions(String browser, ConfigReader config) {
+        switch (browser) {
+            case "chrome":
+                ChromeOptions chromeOptions = new ChromeOptions();
+
+                // Optimized options for Jenkins headless mode
+                if (config.getBoolean("headless", true)) {
+                    chromeOptions.addArguments("--headless=new");
+                }
+                chromeOptions.addArguments("--no-sandbox");
+                chromeOptions.addArguments("--disable-dev-shm-usage");
+                chromeOptions.addArguments("--disable-gpu");
+                chromeOptions.addArguments("--window-size=1920,1080");
+                chromeOptions.addArguments("--disable-notifications");
+                chromeOptions.addArguments("--disable-popup-blocking");
+                chromeOptions.addArguments("--disable-blink-features=AutomationControlled");
+                chromeOptions.addArguments("--disable-extensions");
+                chromeOptions.addArguments("--disable-infobars");
+                chromeOptions.addArguments("--disable-web-security");
+                chromeOptions.addArguments("--allow-running-insecure-content");
+                chromeOptions.addArguments("--ignore-certificate-errors");
+
+                // CRITICAL: Disable automation flags
+                chromeOptions.setExperimentalOption("excludeSwitches",
+                    Arrays.asList("enable-automation"));
+                chromeOptions.setExperimentalOption("useAutomationExtension", false);
+                return chromeOptions;
+
+            case "firefox":
+                return new FirefoxOptions();
+
+            case "edge":
+                return new EdgeOptions();
+
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browser);
+        }
+    }
+
+    /**
+     * Implicit wait from implicit.wait (seconds unless suffixed)
+     */
+    public static Duration getImplicitWait(ConfigReader config) {
+        return config.getDuration("implicit.wait", Duration.ofSeconds(20), ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Async script timeout from script.timeout (seconds unless suffixed)
+     */
+    public static Duration getScriptTimeout(ConfigReader config) {
+        return config.getDuration("script.timeout", Duration.ofSeconds(30), ChronoUnit.SECONDS);
+    }
+}
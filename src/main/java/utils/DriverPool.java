@@ -0,0 +1,228 @@
+package utils;
+
+import base.ElementCache;
+import base.PageRegistry;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DriverPool class to keep warm browser sessions between tests
+ * A session is reset (cookies, storage, URL) when released and handed to the next test.
+ * Sessions are recycled after pool.max.uses leases or as soon as they crash.
+ * The pool keeps one idle session per worker thread unless pool.size asks for more.
+ */
+public class DriverPool {
+    private static final ConcurrentLinkedDeque<PooledSession> idleSessions = new ConcurrentLinkedDeque<>();
+    private static final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger misses = new AtomicInteger();
+    private static final AtomicInteger recycled = new AtomicInteger();
+    private static final AtomicInteger resets = new AtomicInteger();
+    private static final AtomicInteger peakLeased = new AtomicInteger();
+    private static final AtomicLong resetNanos = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown));
+    }
+
+    /**
+     * Lease a browser session, reusing a warm one when available
+     * @return WebDriver owned by the caller until released
+     */
+    public static WebDriver acquire() {
+        return acquire(false);
+    }
+
+    /**
+     * Lease a browser session
+     * @param fresh true to always start a new browser, e.g. for a retried test
+     * @return WebDriver owned by the caller until released
+     */
+    public static WebDriver acquire(boolean fresh) {
+        ConfigReader config = ConfigReader.getInstance();
+        PooledSession session = isEnabled(config) && !fresh ? idleSessions.pollFirst() : null;
+
+        Duration implicitWait = DriverFactory.getImplicitWait(config);
+        Duration scriptTimeout = DriverFactory.getScriptTimeout(config);
+        if (session != null) {
+            hits.incrementAndGet();
+            System.out.println("✓ Reusing warm browser session (lease " + (session.uses + 1) + ")");
+            // Pick up a reloaded implicit.wait or script.timeout on sessions created before the change
+            if (!implicitWait.equals(session.implicitWait)) {
+                session.driver.manage().timeouts().implicitlyWait(implicitWait);
+            }
+            if (!scriptTimeout.equals(session.scriptTimeout)) {
+                session.driver.manage().timeouts().scriptTimeout(scriptTimeout);
+            }
+        } else {
+            misses.incrementAndGet();
+            session = new PooledSession(DriverFactory.createDriver(config));
+        }
+        session.implicitWait = implicitWait;
+        session.scriptTimeout = scriptTimeout;
+
+        leasedSessions.put(session.driver, session);
+        peakLeased.accumulateAndGet(leasedSessions.size(), Math::max);
+        return session.driver;
+    }
+
+    /**
+     * Return a leased session to the pool
+     * @param driver WebDriver obtained from acquire()
+     * @param reusable false if the session crashed and must not be handed out again
+     */
+    public static void release(WebDriver driver, boolean reusable) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            return;
+        }
+        session.uses++;
+
+        ConfigReader config = ConfigReader.getInstance();
+        int maxUses = config.getInt("pool.max.uses", 10);
+        int maxIdle = getPoolSize(config);
+
+        if (!isEnabled(config) || !reusable || session.uses >= maxUses) {
+            recycle(session);
+            return;
+        }
+
+        if (!reset(session)) {
+            recycle(session);
+            return;
+        }
+
+        if (idleSessions.size() < maxIdle) {
+            idleSessions.offerLast(session);
+        } else {
+            recycle(session);
+        }
+    }
+
+    /**
+     * Check if a test failure means the browser session itself is gone
+     * Other WebDriver errors (timeouts, missing elements) leave a healthy session; release()
+     * still drops it if the reset that follows fails.
+     */
+    public static boolean isSessionFailure(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof NoSuchSessionException || t instanceof UnreachableBrowserException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Quit all idle and leased sessions
+     */
+    public static void shutdown() {
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            quit(session);
+        }
+        for (PooledSession leased : leasedSessions.values()) {
+            quit(leased);
+        }
+        leasedSessions.clear();
+    }
+
+    /**
+     * Get pool statistics for reporting
+     */
+    public static int getHits() {
+        return hits.get();
+    }
+
+    public static int getMisses() {
+        return misses.get();
+    }
+
+    public static int getRecycled() {
+        return recycled.get();
+    }
+
+    public static double getAverageResetMillis() {
+        int count = resets.get();
+        return count == 0 ? 0.0 : resetNanos.get() / 1_000_000.0 / count;
+    }
+
+    public static String getStats() {
+        return String.format("hits=%d, misses=%d, recycled=%d, avg reset=%.1f ms",
+            getHits(), getMisses(), getRecycled(), getAverageResetMillis());
+    }
+
+    private static boolean isEnabled(ConfigReader config) {
+        return config.getBoolean("pool.enabled", true);
+    }
+
+    /**
+     * Number of idle sessions to keep: pool.size, but never fewer than the worker threads
+     * Workers are thread.count in parallel mode, or as many sessions as were ever leased at once
+     * (grid runs size their threads from free slots).
+     */
+    private static int getPoolSize(ConfigReader config) {
+        boolean parallel = !"none".equalsIgnoreCase(config.getProperty("parallel.mode", "none"));
+        int workers = Math.max(parallel ? config.getInt("thread.count", 1) : 1, peakLeased.get());
+        return Math.max(config.getInt("pool.size", workers), workers);
+    }
+
+    /**
+     * Clear cookies and storage for the current origin, then park the session on a blank page
+     */
+    private static boolean reset(PooledSession session) {
+        long start = System.nanoTime();
+        try {
+            session.driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) session.driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            session.driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.err.println("✗ Failed to reset browser session: " + e.getMessage());
+            return false;
+        } finally {
+            resetNanos.addAndGet(System.nanoTime() - start);
+            resets.incrementAndGet();
+        }
+    }
+
+    private static void recycle(PooledSession session) {
+        recycled.incrementAndGet();
+        quit(session);
+    }
+
+    private static void quit(PooledSession session) {
+        NetworkProfile.release(session.driver);
+        GridExecution.release(session.driver);
+        PageRegistry.release(session.driver);
+        ElementCache.release(session.driver);
+        try {
+            session.driver.quit();
+            System.out.println("✓ Browser closed");
+        } catch (Exception e) {
+            System.err.println("✗ Failed to quit browser: " + e.getMessage());
+        }
+    }
+
+    private static class PooledSession {
+        private final WebDriver driver;
+        private int uses;
+        private Duration implicitWait;
+        private Duration scriptTimeout;
+
+        private PooledSession(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
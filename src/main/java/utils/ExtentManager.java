@@ -6,28 +6,59 @@ import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
 import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * ExtentManager class to manage Extent Reports
  * Provides methods to create and manage test reports
+ * With report.streaming=true finished tests are appended to an event log and dropped from
+ * memory; the HTML is built from the log at the end, or from a shutdown hook if the run dies.
+ * Sharded runs always stream, so ReportMerger can combine the shard logs.
  */
 public class ExtentManager {
+    // Per-shard under test-output/shards/<id>/ when the run is sharded
+    private static final String REPORT_DIR = ShardContext.getOutputDir() + "reports/";
+    private static final String REPORT_PATH = REPORT_DIR + "ExtentReport.html";
+    private static final String EVENT_LOG_PATH = REPORT_DIR + "events.ndjson";
+
     private static ExtentReports extent;
     private static ExtentSparkReporter sparkReporter;
+    private static ReportEventLog eventLog;
+    private static boolean reportWritten;
     private static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
 
     /**
      * Initialize Extent Reports
      */
-    public static ExtentReports createInstance() {
+    public static synchronized ExtentReports createInstance() {
         // Create reports directory if not exists
-        File reportDir = new File("./test-output/reports/");
+        File reportDir = new File(REPORT_DIR);
         if (!reportDir.exists()) {
             reportDir.mkdirs();
         }
 
-        String reportPath = "./test-output/reports/ExtentReport.html";
-        
+        String reportPath = REPORT_PATH;
+        extent = new ExtentReports();
+        reportWritten = false;
+
+        if (ConfigReader.getInstance().getBoolean("report.streaming", false) || ShardContext.isSharded()) {
+            createEventLog();
+            eventLog.append(workerEvent("started"));
+            setSystemInfo("Application", "SauceDemo");
+            setSystemInfo("Environment", "QA");
+            setSystemInfo("User", System.getProperty("user.name"));
+            setSystemInfo("OS", System.getProperty("os.name"));
+            setSystemInfo("Java Version", System.getProperty("java.version"));
+            System.out.println("✓ Streaming Extent Report initialized: " + eventLog.getPath());
+            return extent;
+        }
+
         // Create Spark Reporter
         sparkReporter = new ExtentSparkReporter(reportPath);
         
@@ -37,8 +68,7 @@ public class ExtentManager {
         sparkReporter.config().setTheme(Theme.DARK);
         sparkReporter.config().setTimeStampFormat("dd-MM-yyyy HH:mm:ss");
         
-        // Create Extent Reports instance
-        extent = new ExtentReports();
+        // Attach to Extent Reports instance
         extent.attachReporter(sparkReporter);
         
         // Set system information
@@ -52,16 +82,95 @@ public class ExtentManager {
         return extent;
     }
 
+    private static void createEventLog() {
+        long flushSeconds = ConfigReader.getInstance().getLong("report.flush.seconds", 5);
+        try {
+            eventLog = new ReportEventLog(Paths.get(EVENT_LOG_PATH), flushSeconds);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create report event log: " + EVENT_LOG_PATH, e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writeStreamingReport(true)));
+    }
+
+    /**
+     * Worker identity and lifetime, used by ReportMerger for timing and utilization
+     */
+    private static Map<String, Object> workerEvent(String timestampKey) {
+        ConfigReader config = ConfigReader.getInstance();
+        boolean parallel = !"none".equalsIgnoreCase(config.getProperty("parallel.mode", "none"));
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", "worker");
+        event.put("shard", ShardContext.getShardId());
+        try {
+            event.put("host", InetAddress.getLocalHost().getHostName());
+        } catch (IOException e) {
+            event.put("host", "unknown");
+        }
+        event.put("threads", parallel ? config.getInt("thread.count", 1) : 1);
+        event.put(timestampKey, System.currentTimeMillis());
+        return event;
+    }
+
     /**
      * Get Extent Reports instance
      */
-    public static ExtentReports getInstance() {
+    public static synchronized ExtentReports getInstance() {
         if (extent == null) {
             createInstance();
         }
         return extent;
     }
 
+    /**
+     * Create a test node (synchronized so parallel threads can register tests safely)
+     */
+    public static synchronized ExtentTest createTest(String testName, String description) {
+        return getInstance().createTest(testName, description);
+    }
+
+    /**
+     * Mark a top-level test node as finished
+     * In streaming mode the node is written to the event log and released from memory.
+     */
+    public static void completeTest(ExtentTest test) {
+        if (eventLog == null || test == null) {
+            return;
+        }
+        eventLog.appendTest(test.getModel());
+        synchronized (ExtentManager.class) {
+            extent.removeTest(test);
+        }
+    }
+
+    /**
+     * Add a system info entry to the report
+     */
+    public static synchronized void setSystemInfo(String key, String value) {
+        if (eventLog != null) {
+            eventLog.appendSystemInfo(key, value);
+        } else {
+            getInstance().setSystemInfo(key, value);
+        }
+    }
+
+    /**
+     * Add a run-level section, e.g. a metrics table, that is not counted as a test
+     * Shown in the Logs view of the Spark report, or in the summary of the streaming report.
+     * @param title Section heading
+     * @param content Text or markup, e.g. MarkupHelper.createTable(rows).getMarkup()
+     */
+    public static synchronized void addSection(String title, String... content) {
+        if (eventLog != null) {
+            eventLog.appendSection(title, Arrays.asList(content));
+            return;
+        }
+        StringBuilder html = new StringBuilder("<h5>").append(title).append("</h5>");
+        for (String part : content) {
+            html.append("<div>").append(part).append("</div>");
+        }
+        getInstance().addTestRunnerOutput(html.toString());
+    }
+
     /**
      * Set ExtentTest for current thread
      */
@@ -79,10 +188,31 @@ public class ExtentManager {
     /**
      * Flush reports
      */
-    public static void flushReports() {
-        if (extent != null) {
+    public static synchronized void flushReports() {
+        if (eventLog != null) {
+            writeStreamingReport(false);
+        } else if (extent != null) {
             extent.flush();
             System.out.println("✓ Extent Report saved successfully");
         }
     }
+
+    /**
+     * Close the event log and build the HTML from it (once per run)
+     */
+    private static synchronized void writeStreamingReport(boolean partial) {
+        if (eventLog == null || reportWritten) {
+            return;
+        }
+        reportWritten = true;
+        eventLog.append(workerEvent("finished"));
+        eventLog.close();
+        try {
+            StreamingReportBuilder.build(Collections.singletonList(eventLog.getPath()), Paths.get(REPORT_PATH),
+                "SauceDemo Automation Report", partial);
+            System.out.println((partial ? "✓ Partial" : "✓") + " Extent Report saved from event log: " + REPORT_PATH);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to build report from event log: " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
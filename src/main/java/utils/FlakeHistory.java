@@ -0,0 +1,177 @@
+package utils;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FlakeHistory class - Per-test flake rate kept across runs (retry.history)
+ * A run is flaky when a test failed and then passed on retry. Tests with at least
+ * retry.quarantine.min.runs runs and a flake rate of retry.quarantine.rate or more are
+ * quarantined; lane=stable leaves them out and lane=quarantine runs only them.
+ * Counts are halved past MAX_RUNS so old runs fade out.
+ */
+public class FlakeHistory {
+    private static final int MAX_RUNS = 50;
+
+    private static final Map<String, int[]> history = new ConcurrentHashMap<>();
+    // Outcome of this run per test: attempts used and final result
+    private static final Map<String, String> outcomes = new ConcurrentHashMap<>();
+    private static final Set<String> retried = ConcurrentHashMap.newKeySet();
+    private static final Map<String, int[]> runCounts = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    /**
+     * Record a test's final result for this run
+     * @param retries Number of retries it needed
+     */
+    public static void recordOutcome(String test, int retries, boolean passed) {
+        loadHistory();
+        // runs, flaky
+        runCounts.put(test, new int[] {1, passed && retries > 0 ? 1 : 0});
+        String result = passed ? "Passed" : "Failed";
+        if (retries > 0) {
+            retried.add(test);
+            result += " after " + (retries + 1) + " attempts";
+        }
+        outcomes.put(test, result);
+    }
+
+    /**
+     * Flake rate of a test over the recorded runs, 0 if it has never run
+     */
+    public static double getFlakeRate(String test) {
+        loadHistory();
+        int[] counts = history.get(test);
+        return counts == null || counts[0] == 0 ? 0.0 : (double) counts[1] / counts[0];
+    }
+
+    public static boolean isQuarantined(String test) {
+        loadHistory();
+        ConfigReader config = ConfigReader.getInstance();
+        int[] counts = history.get(test);
+        return counts != null
+            && counts[0] >= config.getInt("retry.quarantine.min.runs", 3)
+            && getFlakeRate(test) >= config.getDouble("retry.quarantine.rate", 0.2);
+    }
+
+    /**
+     * Save this run's outcomes and publish retried and quarantined tests to the report
+     * @param retryStats Retry budget summary
+     */
+    public static void publish(String retryStats) {
+        if (runCounts.isEmpty()) {
+            return;
+        }
+        saveHistory();
+
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"Test", "This run", "Flake rate", "Runs", "Quarantined"});
+        for (Map.Entry<String, int[]> entry : new TreeMap<>(history).entrySet()) {
+            String test = entry.getKey();
+            if (entry.getValue()[1] == 0 && !retried.contains(test)) {
+                continue;
+            }
+            rows.add(new String[] {
+                test,
+                outcomes.getOrDefault(test, "-"),
+                String.format("%.0f%%", getFlakeRate(test) * 100),
+                String.valueOf(entry.getValue()[0]),
+                isQuarantined(test) ? "yes" : "no"
+            });
+        }
+
+        if (rows.size() > 1) {
+            ExtentManager.addSection("Retries and Flaky Tests", retryStats,
+                MarkupHelper.createTable(rows.toArray(new String[0][])).getMarkup());
+        } else {
+            ExtentManager.addSection("Retries and Flaky Tests", retryStats);
+        }
+        ExtentManager.setSystemInfo("Retries", retryStats);
+        System.out.println("✓ Retries: " + retryStats);
+    }
+
+    private static Path historyPath() {
+        return Paths.get(ConfigReader.getInstance().getProperty("retry.history", "./test-output/flake-history.properties"));
+    }
+
+    private static synchronized void loadHistory() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        history.putAll(readHistory(historyPath()));
+    }
+
+    /**
+     * Entries are "runs,flaky"
+     */
+    private static Map<String, int[]> readHistory(Path path) {
+        Map<String, int[]> counts = new TreeMap<>();
+        if (!Files.exists(path)) {
+            return counts;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to read flake history: " + e.getMessage());
+            return counts;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            String[] parts = properties.getProperty(key).split(",");
+            try {
+                counts.put(key, new int[] {Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())});
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                // Corrupt entry, counted again from this run
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Add this run to the history file, re-read first so parallel shards do not drop each other's entries
+     */
+    private static synchronized void saveHistory() {
+        Path path = historyPath();
+        Map<String, int[]> merged = readHistory(path);
+        for (Map.Entry<String, int[]> entry : runCounts.entrySet()) {
+            int[] counts = merged.computeIfAbsent(entry.getKey(), k -> new int[2]);
+            counts[0] += entry.getValue()[0];
+            counts[1] += entry.getValue()[1];
+            if (counts[0] > MAX_RUNS) {
+                counts[0] /= 2;
+                counts[1] /= 2;
+            }
+        }
+        history.clear();
+        history.putAll(merged);
+
+        StringBuilder content = new StringBuilder("# runs,flaky per test, written by utils.FlakeHistory\n");
+        merged.forEach((key, counts) -> content.append(key).append('=').append(counts[0]).append(',')
+            .append(counts[1]).append('\n'));
+        try {
+            Path absolute = path.toAbsolutePath();
+            Files.createDirectories(absolute.getParent());
+            Path temp = Files.createTempFile(absolute.getParent(), "flake-history", ".tmp");
+            Files.write(temp, content.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("✓ Flake history saved: " + path);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to save flake history: " + e.getMessage());
+        }
+    }
+}
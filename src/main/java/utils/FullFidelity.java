@@ -0,0 +1,15 @@
+package utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * FullFidelity annotation - Opt a test method or class out of the network blocking profile
+ * Use it for tests that assert on images, fonts or other blocked resources.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface FullFidelity {
+}
@@ -0,0 +1,16 @@
+package utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gate annotation - Mark a test method as a gate other tests depend on
+ * When a gate fails, tests declaring @GatedBy with its name are skipped without a browser.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Gate {
+    String value();
+}
@@ -0,0 +1,102 @@
+package utils;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToLongFunction;
+
+/**
+ * GateRegistry class - Tracks @Gate results and which @GatedBy tests were skipped
+ * A gate is closed once its test fails (or is itself skipped by a closed gate); later tests
+ * gated by it are skipped before a browser is acquired. Tests already running are not stopped.
+ */
+public class GateRegistry {
+    // Gate name -> test that closed it
+    private static final Map<String, String> closedGates = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> skippedByGate = new ConcurrentHashMap<>();
+
+    /**
+     * Record the outcome of a test, closing its gate if it did not pass
+     */
+    public static void recordResult(Method method, boolean passed) {
+        Gate gate = method.getAnnotation(Gate.class);
+        if (gate == null) {
+            return;
+        }
+        String test = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        if (passed) {
+            closedGates.remove(gate.value(), test);
+        } else if (closedGates.putIfAbsent(gate.value(), test) == null) {
+            System.out.println("✗ Gate '" + gate.value() + "' closed by " + test);
+        }
+    }
+
+    /**
+     * Find a closed gate the test depends on
+     * @return Skip reason, or null if the test may run
+     */
+    public static String getSkipReason(Method method, Class<?> testClass) {
+        List<String> gates = new ArrayList<>();
+        addGates(gates, method.getAnnotation(GatedBy.class));
+        addGates(gates, testClass.getAnnotation(GatedBy.class));
+
+        for (String gate : gates) {
+            String closedBy = closedGates.get(gate);
+            if (closedBy != null) {
+                return "Gate '" + gate + "' failed in " + closedBy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Record a test skipped because of a closed gate
+     */
+    public static void recordSkip(String test, String reason) {
+        skippedByGate.computeIfAbsent(reason, r -> new CopyOnWriteArrayList<>()).add(test);
+    }
+
+    /**
+     * Publish skipped tests and the estimated time saved to the report
+     * @param estimateMillis Expected duration of a test, keyed as Class.method
+     */
+    public static void publish(ToLongFunction<String> estimateMillis) {
+        if (skippedByGate.isEmpty()) {
+            return;
+        }
+
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"Reason", "Skipped tests", "Estimated time saved (s)"});
+        long totalSaved = 0;
+        int totalSkipped = 0;
+        for (Map.Entry<String, List<String>> entry : new TreeMap<>(skippedByGate).entrySet()) {
+            long saved = 0;
+            for (String test : entry.getValue()) {
+                saved += estimateMillis.applyAsLong(test);
+            }
+            totalSaved += saved;
+            totalSkipped += entry.getValue().size();
+            rows.add(new String[] {entry.getKey(), String.valueOf(entry.getValue().size()),
+                String.format("%.1f", saved / 1000.0)});
+        }
+
+        String summary = totalSkipped + " tests skipped, ~" + String.format("%.1f", totalSaved / 1000.0) + " s saved";
+        ExtentManager.addSection("Fail-Fast Gates", summary, MarkupHelper.createTable(rows.toArray(new String[0][])).getMarkup());
+        ExtentManager.setSystemInfo("Fail-Fast Gates", summary);
+        System.out.println("✓ Fail-fast gates: " + summary);
+    }
+
+    private static void addGates(List<String> gates, GatedBy gatedBy) {
+        if (gatedBy != null) {
+            for (String gate : gatedBy.value()) {
+                gates.add(gate);
+            }
+        }
+    }
+}
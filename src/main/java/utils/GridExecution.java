@@ -0,0 +1,250 @@
+package utils;
+
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GridExecution class - Runs browser sessions on a Selenium Grid (execution=grid, grid.url)
+ * Reads free slots from the hub's /status to size the parallel run, times every session
+ * request (time spent in the grid's queue plus browser start) and attributes sessions to
+ * the node that serves them, so throughput and wait can be reported per node.
+ */
+public class GridExecution {
+    private static final Json JSON = new Json();
+
+    private static final Map<WebDriver, String> nodeByDriver = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, String> pendingNodes = new ConcurrentHashMap<>();
+    private static final Map<String, NodeStats> statsByNode = new ConcurrentHashMap<>();
+    private static final AtomicLong firstSessionMillis = new AtomicLong();
+
+    /**
+     * Check whether sessions should be created on the grid
+     */
+    public static boolean isEnabled(ConfigReader config) {
+        return "grid".equalsIgnoreCase(config.getProperty("execution", "local"));
+    }
+
+    public static URL getGridUrl(ConfigReader config) {
+        String url = config.getProperty("grid.url", "http://localhost:4444");
+        try {
+            return new URL(url.endsWith("/") ? url : url + "/");
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid grid.url: " + url, e);
+        }
+    }
+
+    /**
+     * Count free slots for a browser across all nodes that are up
+     * @return Number of free slots, 0 if the grid cannot be reached
+     */
+    @SuppressWarnings("unchecked")
+    public static int getAvailableSlots(String browser) {
+        Map<String, Object> status;
+        try {
+            status = request("status", null);
+        } catch (IOException e) {
+            System.err.println("✗ Selenium Grid not reachable: " + e.getMessage());
+            return 0;
+        }
+
+        Map<String, Object> value = (Map<String, Object>) status.get("value");
+        List<Map<String, Object>> nodes = value == null ? null : (List<Map<String, Object>>) value.get("nodes");
+        if (nodes == null) {
+            return 0;
+        }
+
+        int free = 0;
+        for (Map<String, Object> node : nodes) {
+            if (!"UP".equals(node.get("availability"))) {
+                continue;
+            }
+            List<Map<String, Object>> slots = (List<Map<String, Object>>) node.get("slots");
+            int nodeFree = 0;
+            for (Map<String, Object> slot : slots == null ? Collections.<Map<String, Object>>emptyList() : slots) {
+                Map<String, Object> stereotype = (Map<String, Object>) slot.get("stereotype");
+                boolean matches = stereotype != null
+                    && browser.equalsIgnoreCase(String.valueOf(stereotype.get("browserName")).replace("MicrosoftEdge", "edge"));
+                if (matches && slot.get("session") == null) {
+                    nodeFree++;
+                }
+            }
+            // A node never runs more sessions than maxSessions, whatever its slot count
+            Object maxSessions = node.get("maxSessions");
+            if (maxSessions instanceof Number) {
+                nodeFree = Math.min(nodeFree, ((Number) maxSessions).intValue());
+            }
+            System.out.println("  → Grid node " + node.get("uri") + ": " + nodeFree + " free " + browser + " slots");
+            free += nodeFree;
+        }
+        return free;
+    }
+
+    /**
+     * Request a session from the grid and find out which node serves it
+     */
+    public static WebDriver createDriver(Capabilities capabilities) {
+        URL gridUrl = getGridUrl(ConfigReader.getInstance());
+        long start = System.nanoTime();
+        RemoteWebDriver remote;
+        try {
+            remote = new RemoteWebDriver(gridUrl, capabilities);
+        } catch (SessionNotCreatedException e) {
+            throw new IllegalStateException("Grid " + gridUrl + " could not create a session: " + e.getMessage(), e);
+        }
+        long waitMillis = (System.nanoTime() - start) / 1_000_000;
+        firstSessionMillis.compareAndSet(0, System.currentTimeMillis());
+
+        String node = findNode(remote.getSessionId().toString());
+        stats(node).sessionWaits.add(waitMillis);
+        stats(node).sessions.increment();
+        System.out.println("✓ Grid session on " + node + " after " + waitMillis + " ms");
+
+        // Augmenting exposes DevTools through the grid, so network blocking keeps working
+        WebDriver driver = remote;
+        try {
+            driver = new Augmenter().augment(remote);
+        } catch (RuntimeException e) {
+            System.err.println("✗ Could not augment grid session: " + e.getMessage());
+        }
+        pendingNodes.put(driver, node);
+        return driver;
+    }
+
+    /**
+     * Link the driver handed to tests (possibly decorated) to the grid session it wraps
+     */
+    public static void register(WebDriver decorated, WebDriver driver) {
+        String node = pendingNodes.remove(driver);
+        if (node != null) {
+            nodeByDriver.put(decorated, node);
+        }
+    }
+
+    /**
+     * Record a finished test against the node its session runs on
+     */
+    public static void recordTest(WebDriver driver, long durationMillis) {
+        String node = driver == null ? null : nodeByDriver.get(driver);
+        if (node != null) {
+            NodeStats stats = stats(node);
+            stats.tests.increment();
+            stats.busyMillis.add(durationMillis);
+        }
+    }
+
+    /**
+     * Forget a session that is about to quit
+     */
+    public static void release(WebDriver driver) {
+        nodeByDriver.remove(driver);
+    }
+
+    /**
+     * Publish per-node throughput and session wait to the report
+     */
+    public static void publish() {
+        if (statsByNode.isEmpty()) {
+            return;
+        }
+        double elapsedMinutes = Math.max(1, System.currentTimeMillis() - firstSessionMillis.get()) / 60_000.0;
+
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] {"Node", "Sessions", "Tests", "Tests/min", "Busy (s)",
+            "Avg session wait (ms)", "Max session wait (ms)"});
+        for (Map.Entry<String, NodeStats> entry : new TreeMap<>(statsByNode).entrySet()) {
+            NodeStats stats = entry.getValue();
+            List<Long> waits = new ArrayList<>(stats.sessionWaits);
+            long total = 0;
+            long max = 0;
+            for (long wait : waits) {
+                total += wait;
+                max = Math.max(max, wait);
+            }
+            rows.add(new String[] {
+                entry.getKey(),
+                String.valueOf(stats.sessions.sum()),
+                String.valueOf(stats.tests.sum()),
+                String.format("%.1f", stats.tests.sum() / elapsedMinutes),
+                String.format("%.1f", stats.busyMillis.sum() / 1000.0),
+                String.valueOf(waits.isEmpty() ? 0 : total / waits.size()),
+                String.valueOf(max)
+            });
+        }
+
+        ExtentManager.addSection("Selenium Grid Nodes", MarkupHelper.createTable(rows.toArray(new String[0][])).getMarkup());
+        for (String[] row : rows) {
+            System.out.println("  " + String.join(" | ", row));
+        }
+    }
+
+    private static NodeStats stats(String node) {
+        return statsByNode.computeIfAbsent(node, n -> new NodeStats());
+    }
+
+    /**
+     * Ask the hub which node runs a session (GraphQL), "unknown" if it cannot tell
+     */
+    @SuppressWarnings("unchecked")
+    private static String findNode(String sessionId) {
+        String query = "{ session (id: \"" + sessionId + "\") { nodeUri } }";
+        try {
+            Map<String, Object> response = request("graphql", Collections.singletonMap("query", query));
+            Map<String, Object> data = (Map<String, Object>) response.get("data");
+            Map<String, Object> session = data == null ? null : (Map<String, Object>) data.get("session");
+            if (session != null && session.get("nodeUri") != null) {
+                return String.valueOf(session.get("nodeUri"));
+            }
+        } catch (IOException | ClassCastException e) {
+            System.err.println("✗ Could not look up grid node for session: " + e.getMessage());
+        }
+        return "unknown";
+    }
+
+    private static Map<String, Object> request(String path, Map<String, Object> body) throws IOException {
+        URL url = new URL(getGridUrl(ConfigReader.getInstance()), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(5000);
+        connection.setReadTimeout(10000);
+        if (body != null) {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(JSON.toJson(body).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        try (InputStream in = connection.getInputStream()) {
+            return JSON.toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static class NodeStats {
+        private final LongAdder sessions = new LongAdder();
+        private final LongAdder tests = new LongAdder();
+        private final LongAdder busyMillis = new LongAdder();
+        private final List<Long> sessionWaits = Collections.synchronizedList(new ArrayList<>());
+    }
+}
@@ -0,0 +1,334 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NetworkProfile class to block requests no assertion needs (images, fonts, analytics)
+ * Applied through Chrome DevTools with Network.setBlockedURLs, configured by network.block.
+ * Counts blocked requests per test and estimates the bytes saved from each URL's size: the size
+ * seen on a full-fidelity load, else its Content-Length from a HEAD request sent in the background
+ * (never to analytics hosts). Sizes are kept in network.sizes across runs; URLs of unknown size
+ * are reported as such, not as 0 bytes.
+ */
+public class NetworkProfile {
+    private static final Map<String, List<String>> CATEGORIES = new LinkedHashMap<>();
+
+    static {
+        CATEGORIES.put("images", extensions("png", "jpg", "jpeg", "gif", "svg", "webp", "ico"));
+        CATEGORIES.put("fonts", extensions("woff", "woff2", "ttf", "otf", "eot"));
+        CATEGORIES.put("media", extensions("mp4", "webm", "mp3"));
+        CATEGORIES.put("analytics", Arrays.asList("*google-analytics.com*", "*googletagmanager.com*",
+            "*doubleclick.net*", "*backtrace.io*", "*hotjar.com*", "*segment.io*"));
+    }
+
+    private static final Map<WebDriver, NetworkProfile> profiles = new ConcurrentHashMap<>();
+
+    // Size of every URL loaded or probed, used to estimate bytes saved by blocking it (-1 if unknown)
+    private static final Map<String, Long> knownSizes = new ConcurrentHashMap<>();
+    private static final Set<String> probing = ConcurrentHashMap.newKeySet();
+    private static ExecutorService prober;
+    private static boolean sizesLoaded;
+
+    private final DevTools devTools;
+    private final Map<String, String> requestUrls = new ConcurrentHashMap<>();
+    private final Queue<String> blockedUrls = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bytesTransferred = new AtomicLong();
+
+    private NetworkProfile(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+        devTools.addListener(event("Network.requestWillBeSent"), this::onRequest);
+        devTools.addListener(event("Network.loadingFinished"), this::onFinished);
+        devTools.addListener(event("Network.loadingFailed"), this::onFailed);
+    }
+
+    /**
+     * Apply the configured blocking profile for the next test
+     * @param driver Driver the test is about to use
+     * @param fullFidelity true to load everything for this test
+     * @return false if the browser does not support DevTools (profile not applied)
+     */
+    public static boolean startTest(WebDriver driver, boolean fullFidelity) {
+        List<String> patterns = fullFidelity ? Collections.emptyList() : getBlockedPatterns();
+        NetworkProfile profile = profiles.get(driver);
+        if (profile == null) {
+            if (patterns.isEmpty() || !(driver instanceof HasDevTools)) {
+                return false;
+            }
+            try {
+                profile = new NetworkProfile(((HasDevTools) driver).getDevTools());
+                profiles.put(driver, profile);
+            } catch (Exception e) {
+                System.err.println("✗ DevTools not available, network blocking disabled: " + e.getMessage());
+                return false;
+            }
+        }
+
+        profile.requestUrls.clear();
+        profile.blockedUrls.clear();
+        profile.bytesTransferred.set(0);
+        Map<String, Object> params = new HashMap<>();
+        params.put("urls", patterns);
+        profile.devTools.send(new Command<Void>("Network.setBlockedURLs", params));
+        return true;
+    }
+
+    /**
+     * Summarise what the profile saved during the current test
+     */
+    public static String getTestSummary(WebDriver driver) {
+        NetworkProfile profile = profiles.get(driver);
+        if (profile == null) {
+            return "Network blocking not active";
+        }
+        loadSizes();
+        long saved = 0;
+        int blocked = 0;
+        int unknown = 0;
+        for (String url : profile.blockedUrls) {
+            blocked++;
+            Long size = knownSizes.get(url);
+            if (size == null) {
+                // Known for later tests and the next run; teardown does not wait for it
+                probeLater(url);
+            }
+            if (size == null || size < 0) {
+                unknown++;
+            } else {
+                saved += size;
+            }
+        }
+        String savedText = blocked > 0 && unknown == blocked ? "size unknown"
+            : String.format("~%.1f KB saved%s", saved / 1024.0, unknown > 0 ? ", " + unknown + " of unknown size" : "");
+        return String.format("Blocked %d requests (%s), transferred %.1f KB",
+            blocked, savedText, profile.bytesTransferred.get() / 1024.0);
+    }
+
+    /**
+     * Keep the known URL sizes for the next run
+     */
+    public static synchronized void saveSizes() {
+        if (prober != null) {
+            // Probes still running get a moment to finish; their URLs stay unknown otherwise
+            prober.shutdown();
+            try {
+                prober.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            prober = null;
+        }
+        if (knownSizes.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.putAll(readSizes(sizesPath()));
+        knownSizes.forEach((url, size) -> {
+            if (size >= 0) {
+                properties.setProperty(url, String.valueOf(size));
+            }
+        });
+        try {
+            Path absolute = sizesPath().toAbsolutePath();
+            Files.createDirectories(absolute.getParent());
+            Path temp = Files.createTempFile(absolute.getParent(), "network-sizes", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Response sizes in bytes, written by utils.NetworkProfile");
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to save network sizes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Close the DevTools session of a driver that is about to quit
+     */
+    public static void release(WebDriver driver) {
+        NetworkProfile profile = profiles.remove(driver);
+        if (profile != null) {
+            try {
+                profile.devTools.close();
+            } catch (Exception e) {
+                // Browser is going away anyway
+            }
+        }
+    }
+
+    /**
+     * URL patterns for the categories listed in network.block
+     */
+    public static List<String> getBlockedPatterns() {
+        String setting = ConfigReader.getInstance().getProperty("network.block", "");
+        List<String> patterns = new ArrayList<>();
+        for (String category : setting.split(",")) {
+            String name = category.trim().toLowerCase();
+            if (name.isEmpty()) {
+                continue;
+            }
+            List<String> categoryPatterns = CATEGORIES.get(name);
+            if (categoryPatterns == null) {
+                throw new IllegalArgumentException("Unknown network.block category: " + name
+                    + " (supported: " + CATEGORIES.keySet() + ")");
+            }
+            patterns.addAll(categoryPatterns);
+        }
+        return patterns;
+    }
+
+    private void onRequest(Map<String, Object> params) {
+        Object request = params.get("request");
+        if (request instanceof Map) {
+            requestUrls.put((String) params.get("requestId"), String.valueOf(((Map<?, ?>) request).get("url")));
+        }
+    }
+
+    private void onFinished(Map<String, Object> params) {
+        String url = requestUrls.remove((String) params.get("requestId"));
+        long size = ((Number) params.get("encodedDataLength")).longValue();
+        bytesTransferred.addAndGet(size);
+        if (url != null) {
+            knownSizes.put(url, size);
+        }
+    }
+
+    private void onFailed(Map<String, Object> params) {
+        String url = requestUrls.remove((String) params.get("requestId"));
+        if (params.get("blockedReason") != null) {
+            blockedUrls.add(url != null ? url : "");
+        }
+    }
+
+    /**
+     * Queue a HEAD request for the size of a blocked URL, unless it goes to an analytics host
+     */
+    private static synchronized void probeLater(String url) {
+        if (!url.startsWith("http") || isAnalytics(url) || !probing.add(url)) {
+            return;
+        }
+        if (prober == null) {
+            prober = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "network-size-prober");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        prober.execute(() -> knownSizes.putIfAbsent(url, probeSize(url)));
+    }
+
+    /**
+     * True for the hosts the analytics category blocks; the JVM must not contact them either
+     */
+    private static boolean isAnalytics(String url) {
+        for (String pattern : CATEGORIES.get("analytics")) {
+            if (url.contains(pattern.replace("*", ""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Content-Length of a URL from a HEAD request, or -1 if the server does not tell
+     */
+    private static long probeSize(String url) {
+        if (!url.startsWith("http")) {
+            return -1;
+        }
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout(2000);
+            connection.setReadTimeout(2000);
+            try {
+                return connection.getResponseCode() < 400 ? connection.getContentLengthLong() : -1;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static Path sizesPath() {
+        return Paths.get(ConfigReader.getInstance().getProperty("network.sizes", "./test-output/network-sizes.properties"));
+    }
+
+    private static synchronized void loadSizes() {
+        if (sizesLoaded) {
+            return;
+        }
+        sizesLoaded = true;
+        readSizes(sizesPath()).forEach((url, size) -> knownSizes.putIfAbsent(url, Long.parseLong(size)));
+    }
+
+    private static Map<String, String> readSizes(Path path) {
+        Map<String, String> sizes = new HashMap<>();
+        if (!Files.exists(path)) {
+            return sizes;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.err.println("✗ Failed to read network sizes: " + e.getMessage());
+            return sizes;
+        }
+        for (String url : properties.stringPropertyNames()) {
+            String size = properties.getProperty(url).trim();
+            if (size.matches("\\d+")) {
+                sizes.put(url, size);
+            }
+        }
+        return sizes;
+    }
+
+    /**
+     * Patterns matching URLs with the given extensions, with or without a query string
+     */
+    private static List<String> extensions(String... extensions) {
+        List<String> patterns = new ArrayList<>();
+        for (String extension : extensions) {
+            patterns.add("*." + extension);
+            patterns.add("*." + extension + "?*");
+        }
+        return patterns;
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
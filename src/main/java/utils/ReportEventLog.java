@@ -0,0 +1,185 @@
+package utils;
+
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.Test;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ReportEventLog class - Append-only report log with one JSON event per line
+ * Finished test nodes are written as "test" events and report metadata as "system" events.
+ * Buffered output is flushed every few seconds, so a killed JVM loses at most that window;
+ * a truncated last line is skipped when the log is read back.
+ */
+public class ReportEventLog implements Closeable {
+    private static final Json JSON = new Json();
+
+    private final Path path;
+    private final BufferedWriter writer;
+    private final ScheduledExecutorService flusher;
+    private boolean closed;
+
+    public ReportEventLog(Path path, long flushSeconds) throws IOException {
+        this.path = path;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Append a finished test node and its children
+     */
+    public void appendTest(Test test) {
+        Map<String, Object> event = toEvent(test);
+        event.put("type", "test");
+        append(event);
+    }
+
+    /**
+     * Append a report metadata entry
+     */
+    public void appendSystemInfo(String key, String value) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", "system");
+        event.put("key", key);
+        event.put("value", value);
+        append(event);
+    }
+
+    /**
+     * Append a run-level report section (title and markup)
+     */
+    public void appendSection(String title, List<String> content) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", "section");
+        event.put("title", title);
+        event.put("content", content);
+        append(event);
+    }
+
+    public synchronized void append(Map<String, Object> event) {
+        if (closed) {
+            return;
+        }
+        StringBuilder line = new StringBuilder();
+        JSON.newOutput(line).setPrettyPrint(false).write(event);
+        try {
+            writer.write(line.toString());
+            writer.newLine();
+        } catch (IOException e) {
+            System.err.println("✗ Failed to append to report log: " + e.getMessage());
+        }
+    }
+
+    public synchronized void flush() {
+        if (closed) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("✗ Failed to flush report log: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        flusher.shutdownNow();
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("✗ Failed to close report log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stream the events of a log one line at a time
+     */
+    public static void forEach(Path path, Consumer<Map<String, Object>> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                Map<String, Object> event;
+                try {
+                    event = JSON.toType(line, Json.MAP_TYPE);
+                } catch (JsonException e) {
+                    // Last line of a log whose JVM was killed mid-write
+                    continue;
+                }
+                consumer.accept(event);
+            }
+        }
+    }
+
+    private static Map<String, Object> toEvent(Test test) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("name", test.getName());
+        event.put("description", test.getDescription());
+        event.put("status", test.getStatus().toString());
+        event.put("start", test.getStartTime().getTime());
+        event.put("end", test.getEndTime().getTime());
+        event.put("thread", Thread.currentThread().getName());
+
+        List<Map<String, Object>> logs = new ArrayList<>();
+        for (Log log : test.getLogs()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("status", log.getStatus().toString());
+            entry.put("time", log.getTimestamp().getTime());
+            entry.put("details", log.getDetails());
+            logs.add(entry);
+        }
+        event.put("logs", logs);
+
+        List<String> media = new ArrayList<>();
+        for (Media item : test.getMedia()) {
+            if (item.getPath() != null) {
+                media.add(item.getPath());
+            }
+        }
+        event.put("media", media);
+
+        List<Map<String, Object>> children = new ArrayList<>();
+        for (Test child : test.getChildren()) {
+            children.add(toEvent(child));
+        }
+        event.put("children", children);
+        return event;
+    }
+}
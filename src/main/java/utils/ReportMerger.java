@@ -0,0 +1,55 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ReportMerger class - Combines the report shards of several workers into one report
+ * Finds &lt;shards&gt;/&lt;id&gt;/reports/events.ndjson for every worker and streams them through
+ * StreamingReportBuilder, which adds per-worker timing and utilization. Shard directories
+ * copied from other machines work as long as screenshots stay next to their reports.
+ *
+ * Usage: mvn -Pmerge-reports compile exec:java [-Dmerge.shards=test-output/shards/]
+ *        [-Dmerge.output=test-output/reports/MergedReport.html]
+ */
+public class ReportMerger {
+
+    public static void main(String[] args) throws IOException {
+        Path shardsRoot = Paths.get(System.getProperty("merge.shards", ShardContext.getShardsRoot()));
+        Path output = Paths.get(System.getProperty("merge.output", "./test-output/reports/MergedReport.html"));
+
+        List<Path> logs = findShardLogs(shardsRoot);
+        if (logs.isEmpty()) {
+            System.err.println("✗ No shard event logs found under " + shardsRoot);
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        StreamingReportBuilder.build(logs, output, "SauceDemo Automation Report (" + logs.size() + " shards)", false);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("✓ Merged " + logs.size() + " shards into " + output + " in " + millis + " ms");
+    }
+
+    /**
+     * Event logs of every shard, in shard directory order
+     */
+    public static List<Path> findShardLogs(Path shardsRoot) throws IOException {
+        List<Path> logs = new ArrayList<>();
+        if (!Files.isDirectory(shardsRoot)) {
+            return logs;
+        }
+        try (Stream<Path> shards = Files.list(shardsRoot)) {
+            shards.filter(Files::isDirectory)
+                .sorted()
+                .map(shard -> shard.resolve("reports").resolve("events.ndjson"))
+                .filter(Files::exists)
+                .forEach(logs::add);
+        }
+        return logs;
+    }
+}
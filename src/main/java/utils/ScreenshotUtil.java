@@ -3,19 +3,35 @@ package utils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ScreenshotUtil class to capture screenshots during test execution
- * Screenshots are saved with timestamp for uniqueness
+ * Screenshots are saved with timestamp, thread and sequence number for uniqueness
+ * captureScreenshotAsync() hands the bytes to a background writer with a bounded queue;
+ * when the queue is full the caller writes the file itself.
  */
 public class ScreenshotUtil {
-    
+    private static final String SCREENSHOT_DIR = ShardContext.getOutputDir() + "screenshots/";
+    private static final AtomicInteger sequence = new AtomicInteger();
+    private static final Queue<Future<?>> pendingWrites = new ConcurrentLinkedQueue<>();
+    private static final ThreadPoolExecutor writer = createWriter();
+
     /**
      * Capture screenshot and save to specified path
      * @param driver WebDriver instance
@@ -23,38 +39,100 @@ public class ScreenshotUtil {
      * @return Path of saved screenshot
      */
     public static String captureScreenshot(WebDriver driver, String testName) {
-        // Create timestamp
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        
-        // Create filename
-        String fileName = testName + "_" + timestamp + ".png";
-        
-        // Create directory if not exists
-        File screenshotDir = new File("./test-output/screenshots/");
-        if (!screenshotDir.exists()) {
-            screenshotDir.mkdirs();
+        String screenshotPath = newScreenshotPath(testName);
+
+        try {
+            // Take screenshot and write the bytes once
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            write(screenshotPath, png);
+            return screenshotPath;
+        } catch (Exception e) {
+            System.err.println("✗ Failed to capture screenshot: " + e.getMessage());
+            return null;
         }
-        
-        // Full path
-        String screenshotPath = "./test-output/screenshots/" + fileName;
+    }
+
+    /**
+     * Capture screenshot now and save it on the background writer
+     * The returned path can be attached to the report straight away; the file
+     * appears there once the write completes (call flush() before reading it).
+     * @param driver WebDriver instance
+     * @param testName Name of the test case
+     * @return Path the screenshot will be saved to, or null if capture failed
+     */
+    public static String captureScreenshotAsync(WebDriver driver, String testName) {
+        String screenshotPath = newScreenshotPath(testName);
 
         try {
-            // Take screenshot
-            TakesScreenshot ts = (TakesScreenshot) driver;
-            File source = ts.getScreenshotAs(OutputType.FILE);
-            File destination = new File(screenshotPath);
-            
-            // Copy file to destination
-            FileUtils.copyFile(source, destination);
-            
-            System.out.println("✓ Screenshot captured: " + screenshotPath);
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            pendingWrites.add(writer.submit(() -> {
+                write(screenshotPath, png);
+                return null;
+            }));
             return screenshotPath;
-        } catch (IOException e) {
+        } catch (Exception e) {
             System.err.println("✗ Failed to capture screenshot: " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Wait until all queued screenshots are written
+     * @param timeoutSeconds Maximum time to wait for each pending write
+     */
+    public static void flush(long timeoutSeconds) {
+        Future<?> pending;
+        while ((pending = pendingWrites.poll()) != null) {
+            try {
+                pending.get(timeoutSeconds, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                System.err.println("✗ Failed to write screenshot: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String newScreenshotPath(String testName) {
+        // Create directory if not exists
+        File screenshotDir = new File(SCREENSHOT_DIR);
+        if (!screenshotDir.exists()) {
+            screenshotDir.mkdirs();
+        }
+        return SCREENSHOT_DIR + uniqueFileName(testName);
+    }
+
+    private static void write(String screenshotPath, byte[] png) throws IOException {
+        Files.write(Paths.get(screenshotPath), png);
+        System.out.println("✓ Screenshot captured: " + screenshotPath);
+    }
+
+    private static ThreadPoolExecutor createWriter() {
+        int queueSize = ConfigReader.getInstance().getInt("screenshot.queue.size", 16);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            task -> {
+                Thread thread = new Thread(task, "screenshot-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(10)));
+        return executor;
+    }
+
+    /**
+     * Build a file name that cannot collide between parallel threads
+     * @param testName Name of the test case
+     * @return File name like testName_20240101_120000_123_t12_7.png
+     */
+    public static String uniqueFileName(String testName) {
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss_SSS").format(new Date());
+        return testName + "_" + timestamp + "_t" + Thread.currentThread().getId()
+            + "_" + sequence.incrementAndGet() + ".png";
+    }
+
     /**
      * Capture screenshot with base64 encoding (for reports)
      * @param driver WebDriver instance
@@ -0,0 +1,99 @@
+package utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SessionInjector class to skip the UI login in test fixtures
+ * The auth state (cookies and storage) of each user is captured after the first real login
+ * and injected directly into the browser for the rest of the run.
+ */
+public class SessionInjector {
+    private static final Map<String, AuthState> cache = new ConcurrentHashMap<>();
+
+    // Cart contents are test data, not auth state, and must never leak between tests
+    private static final String CART_STORAGE_KEY = "cart-contents";
+
+    private static final String READ_STORAGE_SCRIPT =
+        "var store = arguments[0] === 'local' ? window.localStorage : window.sessionStorage, items = {};" +
+        "for (var i = 0; i < store.length; i++) { var k = store.key(i); items[k] = store.getItem(k); }" +
+        "return items;";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+        "var store = arguments[0] === 'local' ? window.localStorage : window.sessionStorage, items = arguments[1];" +
+        "for (var k in items) { store.setItem(k, items[k]); }";
+
+    /**
+     * Capture the auth state of a user who has just logged in through the UI
+     * @param driver WebDriver on an authenticated page of the application
+     * @param username User the state belongs to
+     */
+    public static void capture(WebDriver driver, String username) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        List<Cookie> cookies = new ArrayList<>(driver.manage().getCookies());
+        Map<String, String> localStorage = readStorage(js, "local");
+        Map<String, String> sessionStorage = readStorage(js, "session");
+        localStorage.remove(CART_STORAGE_KEY);
+
+        cache.put(username, new AuthState(cookies, localStorage, sessionStorage));
+        System.out.println("  → Captured session for: " + username + " (" + cookies.size() + " cookies)");
+    }
+
+    /**
+     * Inject a captured session and open the given page
+     * @param driver WebDriver currently on the application origin
+     * @param username User whose session should be injected
+     * @param landingUrl Authenticated page to open after injection
+     * @return false if no session has been captured for the user yet
+     */
+    public static boolean inject(WebDriver driver, String username, String landingUrl) {
+        AuthState state = cache.get(username);
+        if (state == null) {
+            return false;
+        }
+
+        // Re-create cookies for the current host without expiry so they outlive the original login
+        for (Cookie cookie : state.cookies) {
+            driver.manage().addCookie(new Cookie(cookie.getName(), cookie.getValue(), cookie.getPath()));
+        }
+
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript(WRITE_STORAGE_SCRIPT, "local", state.localStorage);
+        js.executeScript(WRITE_STORAGE_SCRIPT, "session", state.sessionStorage);
+
+        driver.get(landingUrl);
+        System.out.println("  → Injected session for: " + username);
+        return true;
+    }
+
+    /**
+     * Forget all captured sessions
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> readStorage(JavascriptExecutor js, String type) {
+        return new HashMap<>((Map<String, String>) js.executeScript(READ_STORAGE_SCRIPT, type));
+    }
+
+    private static class AuthState {
+        private final List<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+
+        private AuthState(List<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+        }
+    }
+}
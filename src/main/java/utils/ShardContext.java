@@ -0,0 +1,59 @@
+package utils;
+
+/**
+ * ShardContext class to identify the worker this JVM runs as
+ * The shard id comes from shard.id, or from shard.index when the suite is split with
+ * shard.total; without one the run is not sharded and all output goes to ./test-output/
+ * as before. Sharded output goes to ./test-output/shards/&lt;id&gt;/.
+ */
+public class ShardContext {
+    private static final String OUTPUT_ROOT = "./test-output/";
+
+    /**
+     * Get the shard id of this JVM, or null when not sharded
+     */
+    public static String getShardId() {
+        ConfigReader config = ConfigReader.getInstance();
+        String id = config.getProperty("shard.id", "").trim();
+        if (!id.isEmpty()) {
+            return id;
+        }
+        if (getShardTotal() > 1) {
+            return "shard-" + getShardIndex();
+        }
+        return null;
+    }
+
+    public static boolean isSharded() {
+        return getShardId() != null;
+    }
+
+    /**
+     * Number of shards the suite is split into (1 = every JVM runs everything)
+     */
+    public static int getShardTotal() {
+        return ConfigReader.getInstance().getInt("shard.total", 1);
+    }
+
+    /**
+     * Zero-based index of the slice of the suite this JVM runs
+     */
+    public static int getShardIndex() {
+        return ConfigReader.getInstance().getInt("shard.index", 0);
+    }
+
+    /**
+     * Root of this worker's output (reports, screenshots, metrics), with trailing slash
+     */
+    public static String getOutputDir() {
+        String id = getShardId();
+        return id == null ? OUTPUT_ROOT : OUTPUT_ROOT + "shards/" + id + "/";
+    }
+
+    /**
+     * Directory holding one sub-directory per shard
+     */
+    public static String getShardsRoot() {
+        return OUTPUT_ROOT + "shards/";
+    }
+}
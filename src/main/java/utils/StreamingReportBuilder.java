@@ -0,0 +1,322 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * StreamingReportBuilder class - Builds the HTML report from one or more report event logs
+ * Each log is read once, line by line, and every test is written out as soon as it is read;
+ * the summary is gathered on the way and written last, then shown first through CSS order.
+ * Memory use therefore does not depend on the number of tests.
+ * With several logs (one per shard) a per-worker timing and utilization table is added.
+ * Run-level sections (metrics tables) are written with the summary and not counted as tests.
+ *
+ * Usage: java utils.StreamingReportBuilder <report.html> <events.ndjson>...
+ */
+public class StreamingReportBuilder {
+    private static final String TIME_FORMAT = "dd-MM-yyyy HH:mm:ss";
+
+    /**
+     * Write the HTML report for the given event logs
+     * @param logs Event logs written by ReportEventLog
+     * @param html Report file to write
+     * @param title Report title
+     * @param partial true if the run did not finish (report built from a shutdown hook)
+     */
+    public static void build(List<Path> logs, Path html, String title, boolean partial) throws IOException {
+        Path reportDir = html.toAbsolutePath().normalize().getParent();
+        Files.createDirectories(reportDir);
+
+        List<Worker> workers = new ArrayList<>();
+        try (BufferedWriter out = Files.newBufferedWriter(html, StandardCharsets.UTF_8)) {
+            writeHead(out, title);
+            out.write("<main>\n");
+            for (Path log : logs) {
+                Worker worker = new Worker(log);
+                workers.add(worker);
+                ReportEventLog.forEach(log, event -> {
+                    worker.add(event);
+                    if ("test".equals(event.get("type"))) {
+                        try {
+                            writeTest(out, event, reportDir, worker);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+            }
+            out.write("</main>\n");
+            writeSummary(out, title, partial, workers);
+            out.write("</body>\n</html>\n");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java utils.StreamingReportBuilder <report.html> <events.ndjson>...");
+            System.exit(2);
+        }
+        List<Path> logs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            logs.add(Paths.get(args[i]));
+        }
+        build(logs, Paths.get(args[0]), "Test Execution Report", false);
+        System.out.println("✓ Report built: " + args[0]);
+    }
+
+    private static void writeHead(BufferedWriter out, String title) throws IOException {
+        out.write("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"utf-8\">\n");
+        out.write("<title>" + escape(title) + "</title>\n");
+        out.write("<style>\n"
+            + "body{background:#1e1e2f;color:#ddd;font-family:Arial,Helvetica,sans-serif;margin:0;display:flex;flex-direction:column}\n"
+            + "header,main{padding:16px 24px}header{background:#27293d;order:-1}\n"
+            + "table{border-collapse:collapse;margin:8px 0}td,th{border:1px solid #444;padding:4px 8px;text-align:left}\n"
+            + "details{background:#27293d;margin:8px 0;padding:8px 12px;border-radius:4px}\n"
+            + "summary{cursor:pointer}.meta{color:#999;font-size:12px}.children{margin-left:24px}\n"
+            + ".pass{color:#2dce89}.fail{color:#f5365c}.skip{color:#fb6340}.warning{color:#ffd600}.info{color:#11cdef}\n"
+            + ".partial{background:#f5365c;color:#fff;padding:8px 12px;border-radius:4px}\n"
+            + "img{max-width:480px;display:block;margin:8px 0}\n"
+            + "</style>\n</head>\n<body>\n");
+    }
+
+    private static void writeSummary(BufferedWriter out, String title, boolean partial, List<Worker> workers) throws IOException {
+        Map<String, Integer> statusCounts = new TreeMap<>();
+        int tests = 0;
+        long firstStart = 0;
+        long lastEnd = 0;
+        for (Worker worker : workers) {
+            worker.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Integer::sum));
+            tests += worker.tests;
+            if (worker.firstStart != 0) {
+                firstStart = firstStart == 0 ? worker.firstStart : Math.min(firstStart, worker.firstStart);
+            }
+            lastEnd = Math.max(lastEnd, worker.lastEnd);
+        }
+
+        out.write("<header>\n<h1>" + escape(title) + "</h1>\n");
+        if (partial) {
+            out.write("<p class=\"partial\">Partial report: the run did not finish</p>\n");
+        }
+
+        out.write("<table><tr><th>Tests</th>");
+        for (String status : statusCounts.keySet()) {
+            out.write("<th class=\"" + cssClass(status) + "\">" + escape(status) + "</th>");
+        }
+        out.write("<th>Started</th><th>Finished</th></tr>\n<tr><td>" + tests + "</td>");
+        for (int count : statusCounts.values()) {
+            out.write("<td>" + count + "</td>");
+        }
+        out.write("<td>" + time(firstStart) + "</td><td>" + time(lastEnd) + "</td></tr></table>\n");
+
+        if (workers.size() > 1) {
+            out.write("<h2>Workers</h2>\n<table><tr><th>Worker</th><th>Host</th><th>Threads</th><th>Tests</th>"
+                + "<th>Failed</th><th>Wall (s)</th><th>Busy (s)</th><th>Utilization</th></tr>\n");
+            for (Worker worker : workers) {
+                long wall = worker.getWallMillis();
+                out.write(String.format("<tr><td>%s</td><td>%s</td><td>%d</td><td>%d</td><td>%d</td>"
+                        + "<td>%.1f</td><td>%.1f</td><td>%.0f%%</td></tr>%n",
+                    escape(worker.id), escape(worker.host), worker.threads, worker.tests,
+                    worker.statusCounts.getOrDefault("Fail", 0), wall / 1000.0, worker.busyMillis / 1000.0,
+                    wall == 0 ? 0.0 : 100.0 * worker.busyMillis / ((double) wall * worker.threads)));
+            }
+            out.write("</table>\n");
+        }
+
+        for (Worker worker : workers) {
+            if (worker.systemInfo.isEmpty()) {
+                continue;
+            }
+            if (workers.size() > 1) {
+                out.write("<details><summary>System info: " + escape(worker.id) + "</summary>\n");
+            }
+            out.write("<table>\n");
+            for (Map.Entry<String, String> entry : worker.systemInfo.entrySet()) {
+                out.write("<tr><th>" + escape(entry.getKey()) + "</th><td>" + escape(entry.getValue()) + "</td></tr>\n");
+            }
+            out.write("</table>\n");
+            if (workers.size() > 1) {
+                out.write("</details>\n");
+            }
+        }
+
+        for (Worker worker : workers) {
+            for (Map<String, Object> section : worker.sections) {
+                String heading = String.valueOf(section.get("title"));
+                if (workers.size() > 1) {
+                    heading += " · " + worker.id;
+                }
+                out.write("<details><summary>" + escape(heading) + "</summary>\n");
+                for (Object part : (List<?>) section.get("content")) {
+                    // Content is already markup (Extent tables), as in the Spark report
+                    out.write("<div>" + part + "</div>\n");
+                }
+                out.write("</details>\n");
+            }
+        }
+        out.write("</header>\n");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeTest(BufferedWriter out, Map<String, Object> test, Path reportDir, Worker worker) throws IOException {
+        String status = String.valueOf(test.get("status"));
+        long start = ((Number) test.get("start")).longValue();
+        long end = ((Number) test.get("end")).longValue();
+        String thread = String.valueOf(test.get("thread"));
+        if (worker.shardId != null) {
+            thread = worker.shardId + " · " + thread;
+        }
+
+        out.write("<details>\n<summary><span class=\"" + cssClass(status) + "\">" + escape(status) + "</span> "
+            + escape(String.valueOf(test.get("name"))) + " <span class=\"meta\">" + time(start) + " · "
+            + (end - start) + " ms · " + escape(thread) + "</span></summary>\n");
+        Object description = test.get("description");
+        if (description != null && !String.valueOf(description).isEmpty()) {
+            out.write("<p class=\"meta\">" + escape(String.valueOf(description)) + "</p>\n");
+        }
+
+        List<Map<String, Object>> logs = (List<Map<String, Object>>) test.get("logs");
+        if (logs != null && !logs.isEmpty()) {
+            out.write("<table>\n");
+            for (Map<String, Object> log : logs) {
+                String logStatus = String.valueOf(log.get("status"));
+                out.write("<tr><td class=\"" + cssClass(logStatus) + "\">" + escape(logStatus) + "</td><td class=\"meta\">"
+                    + time(((Number) log.get("time")).longValue()) + "</td><td>"
+                    // Details are already markup (Extent tables, labels), as in the Spark report
+                    + log.get("details") + "</td></tr>\n");
+            }
+            out.write("</table>\n");
+        }
+
+        List<String> media = (List<String>) test.get("media");
+        if (media != null) {
+            for (String path : media) {
+                out.write("<img src=\"" + escape(relativize(reportDir, worker.resolveMedia(path))) + "\" alt=\"screenshot\">\n");
+            }
+        }
+
+        List<Map<String, Object>> children = (List<Map<String, Object>>) test.get("children");
+        if (children != null && !children.isEmpty()) {
+            out.write("<div class=\"children\">\n");
+            for (Map<String, Object> child : children) {
+                writeTest(out, child, reportDir, worker);
+            }
+            out.write("</div>\n");
+        }
+        out.write("</details>\n");
+    }
+
+    private static String relativize(Path reportDir, Path path) {
+        try {
+            return reportDir.relativize(path).toString().replace('\\', '/');
+        } catch (IllegalArgumentException e) {
+            return path.toString();
+        }
+    }
+
+    private static String cssClass(String status) {
+        return status.toLowerCase();
+    }
+
+    private static String time(long epochMillis) {
+        return epochMillis == 0 ? "-" : new SimpleDateFormat(TIME_FORMAT).format(new Date(epochMillis));
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * Counts and timings of one event log, gathered while its tests are written
+     */
+    private static class Worker {
+        private final Path log;
+        private final Map<String, Integer> statusCounts = new TreeMap<>();
+        private final Map<String, String> systemInfo = new LinkedHashMap<>();
+        private final List<Map<String, Object>> sections = new ArrayList<>();
+        private String id;
+        private String shardId;
+        private String host = "-";
+        private int threads = 1;
+        private int tests;
+        private long busyMillis;
+        private long firstStart;
+        private long lastEnd;
+        private long workerStart;
+        private long workerEnd;
+
+        private Worker(Path log) {
+            this.log = log.toAbsolutePath().normalize();
+            this.id = this.log.toString();
+        }
+
+        private void add(Map<String, Object> event) {
+            String type = String.valueOf(event.get("type"));
+            if ("system".equals(type)) {
+                systemInfo.put(String.valueOf(event.get("key")), String.valueOf(event.get("value")));
+            } else if ("section".equals(type)) {
+                sections.add(event);
+            } else if ("worker".equals(type)) {
+                if (event.get("shard") != null) {
+                    shardId = String.valueOf(event.get("shard"));
+                    id = shardId;
+                }
+                if (event.get("host") != null) {
+                    host = String.valueOf(event.get("host"));
+                }
+                if (event.get("threads") != null) {
+                    threads = Math.max(1, ((Number) event.get("threads")).intValue());
+                }
+                if (event.get("started") != null) {
+                    workerStart = ((Number) event.get("started")).longValue();
+                }
+                if (event.get("finished") != null) {
+                    workerEnd = ((Number) event.get("finished")).longValue();
+                }
+            } else if ("test".equals(type)) {
+                tests++;
+                statusCounts.merge(String.valueOf(event.get("status")), 1, Integer::sum);
+                long start = ((Number) event.get("start")).longValue();
+                long end = ((Number) event.get("end")).longValue();
+                busyMillis += end - start;
+                firstStart = firstStart == 0 ? start : Math.min(firstStart, start);
+                lastEnd = Math.max(lastEnd, end);
+            }
+        }
+
+        /**
+         * Worker lifetime if it finished, otherwise the span of its tests
+         */
+        private long getWallMillis() {
+            long from = workerStart != 0 ? workerStart : firstStart;
+            long to = workerEnd != 0 ? workerEnd : lastEnd;
+            return Math.max(0, to - from);
+        }
+
+        /**
+         * Find a screenshot either where the worker wrote it or next to the copied shard
+         * (&lt;shard&gt;/reports/events.ndjson → &lt;shard&gt;/screenshots/&lt;file&gt;)
+         */
+        private Path resolveMedia(String media) {
+            Path path = Paths.get(media).toAbsolutePath().normalize();
+            if (Files.exists(path) || log.getParent() == null || log.getParent().getParent() == null) {
+                return path;
+            }
+            Path besideShard = log.getParent().getParent().resolve("screenshots").resolve(path.getFileName());
+            return Files.exists(besideShard) ? besideShard : path;
+        }
+    }
+}
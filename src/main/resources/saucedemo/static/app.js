@@ -0,0 +1,483 @@
+/*
+ * Swag Labs stand-in served by server.LocalSauceServer.
+ * Reproduces the DOM contract of https://www.saucedemo.com/ that the page objects rely on:
+ * element ids and classes, error texts, the session-username cookie and the
+ * cart-contents localStorage entry. Nodes are updated in place, as React does,
+ * so element references held by the tests stay valid across cart changes.
+ */
+(function () {
+    'use strict';
+
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user', 'performance_glitch_user',
+                 'error_user', 'visual_user'];
+    var CART_KEY = 'cart-contents';
+    var TAX_RATE = 0.08;
+
+    var PRODUCTS = [
+        { id: 4, name: 'Sauce Labs Backpack', price: 29.99,
+          desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.' },
+        { id: 0, name: 'Sauce Labs Bike Light', price: 9.99,
+          desc: "A red light isn't the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included." },
+        { id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99,
+          desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.' },
+        { id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99,
+          desc: "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office." },
+        { id: 2, name: 'Sauce Labs Onesie', price: 7.99,
+          desc: "Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won't unravel." },
+        { id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99,
+          desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.' }
+    ];
+
+    var PROTECTED = ['/inventory.html', '/cart.html', '/checkout-step-one.html',
+                     '/checkout-step-two.html', '/checkout-complete.html'];
+
+    // ---------- state ----------
+
+    function getUser() {
+        var match = document.cookie.match(/(?:^|;\s*)session-username=([^;]*)/);
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function setUser(username) {
+        if (username) {
+            document.cookie = 'session-username=' + encodeURIComponent(username) + '; path=/';
+        } else {
+            document.cookie = 'session-username=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT';
+        }
+    }
+
+    function getCart() {
+        try {
+            var cart = JSON.parse(window.localStorage.getItem(CART_KEY));
+            return Array.isArray(cart) ? cart : [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function setCart(cart) {
+        if (cart.length === 0) {
+            window.localStorage.removeItem(CART_KEY);
+        } else {
+            window.localStorage.setItem(CART_KEY, JSON.stringify(cart));
+        }
+    }
+
+    function product(id) {
+        for (var i = 0; i < PRODUCTS.length; i++) {
+            if (PRODUCTS[i].id === id) {
+                return PRODUCTS[i];
+            }
+        }
+        return null;
+    }
+
+    function slug(name) {
+        return name.toLowerCase().replace(/[^a-z0-9]+/g, '-').replace(/^-|-$/g, '');
+    }
+
+    // ---------- dom helpers ----------
+
+    function el(tag, attrs, children) {
+        var node = document.createElement(tag);
+        for (var key in attrs || {}) {
+            if (key === 'text') {
+                node.textContent = attrs[key];
+            } else if (key === 'onclick') {
+                node.addEventListener('click', attrs[key]);
+            } else {
+                node.setAttribute(key, attrs[key]);
+            }
+        }
+        (children || []).forEach(function (child) {
+            if (child) {
+                node.appendChild(child);
+            }
+        });
+        return node;
+    }
+
+    function go(path) {
+        window.location.href = path;
+    }
+
+    function money(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function errorBanner(container, message) {
+        var existing = container.querySelector('.error-message-container');
+        if (existing) {
+            existing.parentNode.removeChild(existing);
+        }
+        if (message) {
+            container.appendChild(el('div', { 'class': 'error-message-container error' }, [
+                el('h3', { 'data-test': 'error', text: message })
+            ]));
+        }
+    }
+
+    // ---------- shared chrome ----------
+
+    function header(title) {
+        var menu = el('div', { 'class': 'bm-menu-wrap', hidden: 'hidden' }, [
+            el('nav', { 'class': 'bm-item-list' }, [
+                el('a', { id: 'inventory_sidebar_link', 'class': 'bm-item menu-item', href: '/inventory.html', text: 'All Items' }),
+                el('a', { id: 'about_sidebar_link', 'class': 'bm-item menu-item', href: 'https://saucelabs.com/', text: 'About' }),
+                el('a', { id: 'logout_sidebar_link', 'class': 'bm-item menu-item', href: '#', text: 'Logout',
+                          onclick: function (e) { e.preventDefault(); setUser(null); go('/'); } }),
+                el('a', { id: 'reset_sidebar_link', 'class': 'bm-item menu-item', href: '#', text: 'Reset App State',
+                          onclick: function (e) { e.preventDefault(); setCart([]); updateBadge(); } })
+            ]),
+            el('button', { id: 'react-burger-cross-btn', text: 'Close Menu',
+                           onclick: function () { menu.setAttribute('hidden', 'hidden'); } })
+        ]);
+
+        var badgeHolder = el('a', { 'class': 'shopping_cart_link', href: '/cart.html' });
+
+        return el('div', { id: 'header_container', 'class': 'header_container' }, [
+            el('div', { 'class': 'primary_header' }, [
+                el('div', { 'class': 'bm-burger-button' }, [
+                    el('button', { id: 'react-burger-menu-btn', text: 'Open Menu',
+                                   onclick: function () { menu.removeAttribute('hidden'); } })
+                ]),
+                menu,
+                el('div', { 'class': 'header_label' }, [el('div', { 'class': 'app_logo', text: 'Swag Labs' })]),
+                el('div', { id: 'shopping_cart_container', 'class': 'shopping_cart_container' }, [badgeHolder])
+            ]),
+            el('div', { 'class': 'header_secondary_container' }, [
+                el('span', { 'class': 'title', text: title })
+            ])
+        ]);
+    }
+
+    function updateBadge() {
+        var link = document.querySelector('.shopping_cart_link');
+        if (!link) {
+            return;
+        }
+        var count = getCart().length;
+        var badge = link.querySelector('.shopping_cart_badge');
+        if (count === 0) {
+            if (badge) {
+                link.removeChild(badge);
+            }
+        } else if (badge) {
+            badge.textContent = String(count);
+        } else {
+            link.appendChild(el('span', { 'class': 'shopping_cart_badge', text: String(count) }));
+        }
+    }
+
+    function cartButton(item, inCart) {
+        var button = el('button', { 'class': 'btn btn_small' });
+        function render(added) {
+            var id = (added ? 'remove-' : 'add-to-cart-') + slug(item.name);
+            button.id = id;
+            button.setAttribute('data-test', id);
+            button.setAttribute('name', id);
+            button.className = 'btn btn_small btn_inventory ' + (added ? 'btn_secondary' : 'btn_primary');
+            button.textContent = added ? 'Remove' : 'Add to cart';
+        }
+        button.addEventListener('click', function () {
+            var cart = getCart();
+            var index = cart.indexOf(item.id);
+            if (index >= 0) {
+                cart.splice(index, 1);
+            } else {
+                cart.push(item.id);
+            }
+            setCart(cart);
+            render(index < 0);
+            updateBadge();
+        });
+        render(inCart);
+        return button;
+    }
+
+    function footer() {
+        return el('footer', { 'class': 'footer' }, [
+            el('div', { 'class': 'footer_copy', text: '© Sauce Labs. All Rights Reserved. Terms of Service | Privacy Policy' })
+        ]);
+    }
+
+    function page(title, body) {
+        return el('div', { id: 'page_wrapper', 'class': 'page_wrapper' }, [
+            el('div', { id: 'contents_wrapper' }, [
+                header(title),
+                el('div', { 'class': 'page_contents' }, body)
+            ]),
+            footer()
+        ]);
+    }
+
+    // ---------- pages ----------
+
+    function loginPage(root, message) {
+        var username = el('input', { 'class': 'input_error form_input', id: 'user-name', name: 'user-name',
+                                     'data-test': 'username', placeholder: 'Username', type: 'text', autocorrect: 'off', autocapitalize: 'none' });
+        var password = el('input', { 'class': 'input_error form_input', id: 'password', name: 'password',
+                                     'data-test': 'password', placeholder: 'Password', type: 'password', autocorrect: 'off', autocapitalize: 'none' });
+        var form = el('form', {}, [
+            el('div', { 'class': 'form_group' }, [username]),
+            el('div', { 'class': 'form_group' }, [password])
+        ]);
+        var submit = el('input', { type: 'submit', 'class': 'submit-button btn_action', id: 'login-button',
+                                   name: 'login-button', 'data-test': 'login-button', value: 'Login' });
+        form.appendChild(submit);
+
+        form.addEventListener('submit', function (e) {
+            e.preventDefault();
+            var user = username.value;
+            var error = null;
+            if (!user) {
+                error = 'Epic sadface: Username is required';
+            } else if (!password.value) {
+                error = 'Epic sadface: Password is required';
+            } else if (USERS.indexOf(user) < 0 || password.value !== PASSWORD) {
+                error = 'Epic sadface: Username and password do not match any user in this service';
+            } else if (user === 'locked_out_user') {
+                error = 'Epic sadface: Sorry, this user has been locked out.';
+            }
+            if (error) {
+                errorBanner(form, error);
+                return;
+            }
+            setUser(user);
+            go('/inventory.html');
+        });
+
+        root.appendChild(el('div', { 'class': 'login_container' }, [
+            el('div', { 'class': 'login_logo', text: 'Swag Labs' }),
+            el('div', { 'class': 'login_wrapper' }, [
+                el('div', { 'class': 'login_wrapper-inner' }, [
+                    el('div', { id: 'login_button_container', 'class': 'form_column' }, [
+                        el('div', { 'class': 'login-box' }, [form])
+                    ]),
+                    el('img', { 'class': 'bot_column', src: '/static/img/login-bot.svg', alt: '' })
+                ])
+            ])
+        ]));
+        if (message) {
+            errorBanner(form, message);
+        }
+    }
+
+    function inventoryPage(root) {
+        var cart = getCart();
+        var items = PRODUCTS.map(function (item) {
+            return el('div', { 'class': 'inventory_item', 'data-item-id': String(item.id) }, [
+                el('div', { 'class': 'inventory_item_img' }, [
+                    el('img', { 'class': 'inventory_item_img', src: '/static/img/product.svg', alt: item.name })
+                ]),
+                el('div', { 'class': 'inventory_item_description' }, [
+                    el('div', { 'class': 'inventory_item_label' }, [
+                        el('a', { href: '#', id: 'item_' + item.id + '_title_link' }, [
+                            el('div', { 'class': 'inventory_item_name', text: item.name })
+                        ]),
+                        el('div', { 'class': 'inventory_item_desc', text: item.desc })
+                    ]),
+                    el('div', { 'class': 'pricebar' }, [
+                        el('div', { 'class': 'inventory_item_price', text: money(item.price) }),
+                        cartButton(item, cart.indexOf(item.id) >= 0)
+                    ])
+                ])
+            ]);
+        });
+
+        var sort = el('select', { 'class': 'product_sort_container', 'data-test': 'product_sort_container' }, [
+            el('option', { value: 'az', text: 'Name (A to Z)' }),
+            el('option', { value: 'za', text: 'Name (Z to A)' }),
+            el('option', { value: 'lohi', text: 'Price (low to high)' }),
+            el('option', { value: 'hilo', text: 'Price (high to low)' })
+        ]);
+        var list = el('div', { 'class': 'inventory_list' }, items);
+        sort.addEventListener('change', function () {
+            var nodes = Array.prototype.slice.call(list.children);
+            var compare = {
+                az: function (a, b) { return a.name < b.name ? -1 : 1; },
+                za: function (a, b) { return a.name < b.name ? 1 : -1; },
+                lohi: function (a, b) { return a.price - b.price; },
+                hilo: function (a, b) { return b.price - a.price; }
+            }[sort.value];
+            nodes.map(function (node) { return { node: node, item: product(Number(node.getAttribute('data-item-id'))) }; })
+                 .sort(function (a, b) { return compare(a.item, b.item); })
+                 .forEach(function (entry) { list.appendChild(entry.node); });
+        });
+
+        var view = page('Products', [el('div', { id: 'inventory_container' }, [list])]);
+        view.querySelector('.header_secondary_container').appendChild(
+            el('div', { 'class': 'right_component' }, [el('span', { 'class': 'select_container' }, [sort])]));
+        root.appendChild(view);
+    }
+
+    function cartItem(item, removable) {
+        var children = [
+            el('div', { 'class': 'inventory_item_name', text: item.name }),
+            el('div', { 'class': 'inventory_item_desc', text: item.desc })
+        ];
+        var priceBar = el('div', { 'class': 'item_pricebar' }, [
+            el('div', { 'class': 'inventory_item_price', text: money(item.price) })
+        ]);
+        var row = el('div', { 'class': 'cart_item' }, [
+            el('div', { 'class': 'cart_quantity', text: '1' }),
+            el('div', { 'class': 'cart_item_label' }, children.concat([priceBar]))
+        ]);
+        if (removable) {
+            var id = 'remove-' + slug(item.name);
+            priceBar.appendChild(el('button', { 'class': 'btn btn_secondary btn_small cart_button', id: id,
+                                                name: id, 'data-test': id, text: 'Remove',
+                                                onclick: function () {
+                                                    setCart(getCart().filter(function (c) { return c !== item.id; }));
+                                                    row.parentNode.removeChild(row);
+                                                    updateBadge();
+                                                } }));
+        }
+        return row;
+    }
+
+    function cartList(removable) {
+        var rows = getCart().map(product).filter(Boolean).map(function (item) {
+            return cartItem(item, removable);
+        });
+        return el('div', { 'class': 'cart_list' }, [
+            el('div', { 'class': 'cart_quantity_label', text: 'QTY' }),
+            el('div', { 'class': 'cart_desc_label', text: 'Description' })
+        ].concat(rows));
+    }
+
+    function cartPage(root) {
+        root.appendChild(page('Your Cart', [
+            el('div', { id: 'cart_contents_container', 'class': 'cart_contents_container' }, [
+                cartList(true),
+                el('div', { 'class': 'cart_footer' }, [
+                    el('button', { 'class': 'btn btn_secondary back btn_medium', id: 'continue-shopping',
+                                   'data-test': 'continue-shopping', text: 'Continue Shopping',
+                                   onclick: function () { go('/inventory.html'); } }),
+                    el('button', { 'class': 'btn btn_action btn_medium checkout_button', id: 'checkout',
+                                   'data-test': 'checkout', text: 'Checkout',
+                                   onclick: function () { go('/checkout-step-one.html'); } })
+                ])
+            ])
+        ]));
+    }
+
+    function checkoutStepOne(root) {
+        function field(id, placeholder) {
+            return el('div', { 'class': 'form_group' }, [
+                el('input', { 'class': 'input_error form_input', id: id, name: id, 'data-test': id,
+                              placeholder: placeholder, type: 'text' })
+            ]);
+        }
+        var info = el('div', { 'class': 'checkout_info' }, [
+            field('first-name', 'First Name'),
+            field('last-name', 'Last Name'),
+            field('postal-code', 'Zip/Postal Code')
+        ]);
+        var form = el('form', {}, [
+            info,
+            el('div', { 'class': 'checkout_buttons' }, [
+                el('button', { type: 'button', 'class': 'btn btn_secondary back btn_medium cart_cancel_link', id: 'cancel',
+                               'data-test': 'cancel', text: 'Cancel', onclick: function () { go('/cart.html'); } }),
+                el('input', { type: 'submit', 'class': 'submit-button btn btn_primary cart_button btn_action',
+                              id: 'continue', name: 'continue', 'data-test': 'continue', value: 'Continue' })
+            ])
+        ]);
+        form.addEventListener('submit', function (e) {
+            e.preventDefault();
+            var error = null;
+            if (!form.querySelector('#first-name').value) {
+                error = 'Error: First Name is required';
+            } else if (!form.querySelector('#last-name').value) {
+                error = 'Error: Last Name is required';
+            } else if (!form.querySelector('#postal-code').value) {
+                error = 'Error: Postal Code is required';
+            }
+            if (error) {
+                errorBanner(info, error);
+                return;
+            }
+            go('/checkout-step-two.html');
+        });
+        root.appendChild(page('Checkout: Your Information', [
+            el('div', { id: 'checkout_info_container', 'class': 'checkout_info_container' }, [
+                el('div', { 'class': 'checkout_info_wrapper' }, [form])
+            ])
+        ]));
+    }
+
+    function checkoutStepTwo(root) {
+        var subtotal = getCart().map(product).filter(Boolean).reduce(function (sum, item) {
+            return sum + item.price;
+        }, 0);
+        var tax = Math.round(subtotal * TAX_RATE * 100) / 100;
+        root.appendChild(page('Checkout: Overview', [
+            el('div', { id: 'checkout_summary_container', 'class': 'checkout_summary_container' }, [
+                cartList(false),
+                el('div', { 'class': 'summary_info' }, [
+                    el('div', { 'class': 'summary_info_label', text: 'Payment Information:' }),
+                    el('div', { 'class': 'summary_value_label', text: 'SauceCard #31337' }),
+                    el('div', { 'class': 'summary_info_label', text: 'Shipping Information:' }),
+                    el('div', { 'class': 'summary_value_label', text: 'Free Pony Express Delivery!' }),
+                    el('div', { 'class': 'summary_info_label', text: 'Price Total' }),
+                    el('div', { 'class': 'summary_subtotal_label', text: 'Item total: ' + money(subtotal) }),
+                    el('div', { 'class': 'summary_tax_label', text: 'Tax: ' + money(tax) }),
+                    el('div', { 'class': 'summary_info_label summary_total_label', text: 'Total: ' + money(subtotal + tax) }),
+                    el('div', { 'class': 'cart_footer' }, [
+                        el('button', { 'class': 'btn btn_secondary back btn_medium cart_cancel_link', id: 'cancel',
+                                       'data-test': 'cancel', text: 'Cancel', onclick: function () { go('/inventory.html'); } }),
+                        el('button', { 'class': 'btn btn_action btn_medium cart_button', id: 'finish',
+                                       'data-test': 'finish', text: 'Finish',
+                                       onclick: function () { setCart([]); go('/checkout-complete.html'); } })
+                    ])
+                ])
+            ])
+        ]));
+    }
+
+    function checkoutComplete(root) {
+        root.appendChild(page('Checkout: Complete!', [
+            el('div', { id: 'checkout_complete_container', 'class': 'checkout_complete_container' }, [
+                el('h2', { 'class': 'complete-header', text: 'Thank you for your order!' }),
+                el('div', { 'class': 'complete-text',
+                            text: 'Your order has been dispatched, and will arrive just as fast as the pony can get there!' }),
+                el('button', { 'class': 'btn btn_primary btn_small', id: 'back-to-products',
+                               'data-test': 'back-to-products', text: 'Back Home',
+                               onclick: function () { go('/inventory.html'); } })
+            ])
+        ]));
+    }
+
+    // ---------- router ----------
+
+    var ROUTES = {
+        '/inventory.html': inventoryPage,
+        '/cart.html': cartPage,
+        '/checkout-step-one.html': checkoutStepOne,
+        '/checkout-step-two.html': checkoutStepTwo,
+        '/checkout-complete.html': checkoutComplete
+    };
+
+    function start() {
+        var root = document.getElementById('root');
+        var path = window.location.pathname;
+        var render = ROUTES[path];
+
+        if (!render) {
+            loginPage(root, null);
+        } else if (PROTECTED.indexOf(path) >= 0 && !getUser()) {
+            window.history.replaceState(null, '', '/');
+            loginPage(root, "Epic sadface: You can only access '" + path + "' when you are logged in.");
+        } else {
+            render(root);
+            updateBadge();
+        }
+    }
+
+    if (document.readyState === 'loading') {
+        document.addEventListener('DOMContentLoaded', start);
+    } else {
+        start();
+    }
+})();
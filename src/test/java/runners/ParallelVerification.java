@@ -0,0 +1,213 @@
+package runners;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ParallelVerification class - Runs testng.xml at several thread counts
+ * Verifies every test ends with the same status as the single-threaded run
+ * and prints the wall-clock speedup for each thread count
+ * Each thread count runs in its own JVM, so no static state (closed gates, retry records,
+ * pools, metrics) carries over from one run into the next.
+ *
+ * Usage: mvn -Pparallel-verify test-compile exec:java [-Dverify.threads=1,4,8] [-Dparallel.mode=methods]
+ */
+public class ParallelVerification {
+
+    // Key of the suite's wall-clock time in a run's results file
+    private static final String WALL_CLOCK_KEY = "__wallClockMillis";
+    private static final String RUN_ARG = "--run";
+    // JVM and Maven properties that are not forwarded to the forked runs
+    private static final List<String> JVM_PROPERTY_PREFIXES = Arrays.asList("java.", "jdk.", "sun.", "os.",
+        "user.", "file.", "line.", "path.", "awt.", "maven.", "classworlds.", "library.", "native.",
+        "stdout.", "stderr.");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 3 && RUN_ARG.equals(args[0])) {
+            runSuite(Integer.parseInt(args[1]), Paths.get(args[2]));
+            System.exit(0);
+        }
+
+        String threadList = System.getProperty("verify.threads", "1,4,8");
+        String mode = System.getProperty("parallel.mode", "methods");
+
+        Map<Integer, Map<String, String>> resultsByThreads = new LinkedHashMap<>();
+        Map<Integer, Long> wallClockByThreads = new LinkedHashMap<>();
+
+        for (String value : threadList.split(",")) {
+            int threads = Integer.parseInt(value.trim());
+            Properties results = fork(threads, threads > 1 ? mode : "none");
+            wallClockByThreads.put(threads, Long.parseLong(results.getProperty(WALL_CLOCK_KEY, "0")));
+            results.remove(WALL_CLOCK_KEY);
+
+            Map<String, String> statuses = new TreeMap<>();
+            for (String test : results.stringPropertyNames()) {
+                statuses.put(test, results.getProperty(test));
+            }
+            resultsByThreads.put(threads, statuses);
+        }
+
+        boolean consistent = printSummary(resultsByThreads, wallClockByThreads);
+        System.exit(consistent ? 0 : 1);
+    }
+
+    /**
+     * Run the suite at one thread count in a new JVM and read back its results
+     */
+    private static Properties fork(int threads, String mode) throws IOException, InterruptedException {
+        Path resultsFile = Files.createTempFile("parallel-verify-" + threads + "-", ".properties");
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        // -D options given to this run (e.g. target=local) apply to every thread count
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (JVM_PROPERTY_PREFIXES.stream().noneMatch(key::startsWith)) {
+                command.add("-D" + key + "=" + System.getProperty(key));
+            }
+        }
+        command.add("-Dparallel.mode=" + mode);
+        command.add("-Dthread.count=" + threads);
+        command.add("-cp");
+        command.add(classpath());
+        command.add(ParallelVerification.class.getName());
+        command.add(RUN_ARG);
+        command.add(String.valueOf(threads));
+        command.add(resultsFile.toString());
+
+        System.out.println("\n========== Running suite with " + threads + " thread(s) ==========");
+        int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+        Properties results = new Properties();
+        try (Reader in = Files.newBufferedReader(resultsFile, StandardCharsets.UTF_8)) {
+            results.load(in);
+        } finally {
+            Files.deleteIfExists(resultsFile);
+        }
+        if (exitCode != 0 || !results.containsKey(WALL_CLOCK_KEY)) {
+            throw new IllegalStateException("Suite run with " + threads + " thread(s) exited with " + exitCode);
+        }
+        return results;
+    }
+
+    /**
+     * Run testng.xml in this JVM and write each test's status and the wall-clock time to a file
+     */
+    private static void runSuite(int threads, Path resultsFile) throws IOException {
+        ResultCollector collector = new ResultCollector();
+        TestNG testng = new TestNG();
+        testng.setTestSuites(Collections.singletonList("testng.xml"));
+        testng.addListener(collector);
+
+        long start = System.nanoTime();
+        testng.run();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        Properties results = new Properties();
+        results.putAll(collector.results);
+        results.setProperty(WALL_CLOCK_KEY, String.valueOf(elapsed));
+        try (Writer out = Files.newBufferedWriter(resultsFile, StandardCharsets.UTF_8)) {
+            results.store(out, "Parallel verification, " + threads + " thread(s)");
+        }
+    }
+
+    /**
+     * Test classpath of this run; under exec:java it is the plugin's class loader, not java.class.path
+     */
+    private static String classpath() {
+        ClassLoader loader = ParallelVerification.class.getClassLoader();
+        if (loader instanceof URLClassLoader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                try {
+                    entries.add(Paths.get(url.toURI()).toString());
+                } catch (URISyntaxException e) {
+                    entries.add(url.getPath());
+                }
+            }
+            return String.join(File.pathSeparator, entries);
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static boolean printSummary(Map<Integer, Map<String, String>> resultsByThreads,
+                                        Map<Integer, Long> wallClockByThreads) {
+        List<Integer> threadCounts = Arrays.asList(resultsByThreads.keySet().toArray(new Integer[0]));
+        int baselineThreads = threadCounts.get(0);
+        Map<String, String> baseline = resultsByThreads.get(baselineThreads);
+        long baselineMillis = wallClockByThreads.get(baselineThreads);
+        boolean consistent = true;
+
+        System.out.println("\n========================================");
+        System.out.println("    PARALLEL VERIFICATION SUMMARY");
+        System.out.println("========================================");
+        for (int threads : threadCounts) {
+            Map<String, String> results = resultsByThreads.get(threads);
+            long millis = wallClockByThreads.get(threads);
+            boolean same = results.equals(baseline);
+            consistent &= same;
+
+            System.out.printf("%2d thread(s): %3d tests, %8d ms, speedup %.2fx, results %s%n",
+                threads, results.size(), millis, (double) baselineMillis / millis,
+                same ? "MATCH" : "MISMATCH");
+
+            if (!same) {
+                for (Map.Entry<String, String> entry : baseline.entrySet()) {
+                    String actual = results.get(entry.getKey());
+                    if (!entry.getValue().equals(actual)) {
+                        System.out.println("    ✗ " + entry.getKey() + ": " + entry.getValue() + " → " + actual);
+                    }
+                }
+            }
+        }
+        System.out.println(consistent ? "✓ All thread counts produced identical results"
+                                      : "✗ Results differ between thread counts");
+        return consistent;
+    }
+
+    /**
+     * Records the final status of every test method
+     */
+    private static class ResultCollector implements ITestListener {
+        private final Map<String, String> results = new ConcurrentHashMap<>();
+
+        @Override
+        public void onTestSuccess(ITestResult result) {
+            record(result, "PASS");
+        }
+
+        @Override
+        public void onTestFailure(ITestResult result) {
+            record(result, "FAIL");
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            record(result, "SKIP");
+        }
+
+        private void record(ITestResult result, String status) {
+            results.put(result.getTestClass().getRealClass().getSimpleName()
+                + "." + result.getMethod().getMethodName(), status);
+        }
+    }
+}
@@ -1,25 +1,70 @@
 package tests;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
 import org.testng.ITestResult;
+import org.testng.SkipException;
+import base.BasePage;
+import base.Conditions;
+import base.ElementCache;
+import base.PageRegistry;
+import base.WaitEngine;
 import org.testng.annotations.*;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import listeners.DurationScheduler;
+import listeners.RetryAnalyzer;
+import server.LocalSauceServer;
+import utils.CommandMetrics;
 import utils.ConfigReader;
+import utils.DriverBinaries;
+import utils.DriverPool;
 import utils.ExtentManager;
+import utils.FlakeHistory;
+import utils.FullFidelity;
+import utils.GateRegistry;
+import utils.GridExecution;
+import utils.NetworkProfile;
 import utils.ScreenshotUtil;
 
-import java.time.Duration;
-
-public class BaseTest {
-    protected WebDriver driver;
+public class BaseTest implements IHookable {
+    // Each worker thread owns its own browser session
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    // Set when a failed gate skips the current test
+    private static final ThreadLocal<String> gateSkipReason = new ThreadLocal<>();
     protected ConfigReader config;
-    protected ExtentTest test;
+
+    /**
+     * Get the WebDriver owned by the current thread
+     */
+    protected WebDriver getDriver() {
+        return driver.get();
+    }
+
+    /**
+     * Get a page object for the current session, reusing the session's instance if there is one
+     */
+    protected <T extends BasePage> T page(Class<T> type) {
+        return PageRegistry.get(getDriver(), type);
+    }
+
+    /**
+     * True when a failed gate skips the current test; subclass setup should return early
+     */
+    protected boolean isGateClosed() {
+        return gateSkipReason.get() != null;
+    }
+
+    @Override
+    public void run(IHookCallBack callBack, ITestResult result) {
+        // Skipping here instead of in @BeforeMethod keeps the rest of the class running
+        String reason = gateSkipReason.get();
+        if (reason != null) {
+            throw new SkipException(reason);
+        }
+        callBack.runTestMethod(result);
+    }
 
     @BeforeSuite
     public void setupSuite() {
@@ -27,6 +72,22 @@ public class BaseTest {
         System.out.println("========================================");
         System.out.println("    TEST SUITE EXECUTION STARTED");
         System.out.println("========================================");
+
+        // target=local: serve the app from localhost before any session navigates
+        LocalSauceServer.startIfLocal();
+
+        // Driver binary lookup happens here once instead of in every test's setup
+        ConfigReader config = ConfigReader.getInstance();
+        if (GridExecution.isEnabled(config)) {
+            ExtentManager.setSystemInfo("Selenium Grid", GridExecution.getGridUrl(config).toString());
+            return;
+        }
+        try {
+            DriverBinaries.resolve(config.getBrowser());
+        } catch (IllegalArgumentException e) {
+            System.err.println("✗ " + e.getMessage());
+        }
+        ExtentManager.setSystemInfo("Driver Resolution", DriverBinaries.getStats());
     }
 
     /*
@@ -96,80 +157,53 @@ public class BaseTest {
     */
     @BeforeMethod
     public void setUp(ITestResult result) {
+        // The retry budget counts the whole attempt, fresh browser and teardown included
+        RetryAnalyzer.startAttempt();
         config = ConfigReader.getInstance();
 
         String testName = result.getMethod().getMethodName();
         String description = result.getMethod().getDescription();
-        test = ExtentManager.getInstance().createTest(testName, description);
+        // Each retry gets its own report node next to the failed attempt
+        int attempt = RetryAnalyzer.attemptOf(result);
+        ExtentTest test = ExtentManager.createTest(attempt > 0 ? testName + " (retry " + attempt + ")" : testName, description);
         ExtentManager.setTest(test);
+        WaitEngine.resetSavedMillis();
+        PageRegistry.startFlow(result.getMethod().getRealClass().getSimpleName() + "." + testName);
 
         test.log(Status.INFO, "Test execution started: " + testName);
         System.out.println("\n▶ Starting Test: " + testName);
 
+        // A failed gate skips the test before a browser is acquired
+        String skipReason = GateRegistry.getSkipReason(
+            result.getMethod().getConstructorOrMethod().getMethod(), result.getTestClass().getRealClass());
+        gateSkipReason.set(skipReason);
+        if (skipReason != null) {
+            GateRegistry.recordSkip(result.getMethod().getRealClass().getName() + "." + testName, skipReason);
+            System.out.println("⊘ " + skipReason + ", skipping without a browser");
+            return;
+        }
+
         String browser = config.getBrowser().toLowerCase();
         test.log(Status.INFO, "Opening browser: " + browser);
 
-        switch (browser) {
-            case "chrome":
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions chromeOptions = new ChromeOptions();
-                
-                // Optimized options for Jenkins headless mode
-                chromeOptions.addArguments("--headless=new");
-                chromeOptions.addArguments("--no-sandbox");
-                chromeOptions.addArguments("--disable-dev-shm-usage");
-                chromeOptions.addArguments("--disable-gpu");
-                chromeOptions.addArguments("--window-size=1920,1080");
-                chromeOptions.addArguments("--disable-notifications");
-                chromeOptions.addArguments("--disable-popup-blocking");
-                chromeOptions.addArguments("--disable-blink-features=AutomationControlled");
-                chromeOptions.addArguments("--disable-extensions");
-                chromeOptions.addArguments("--disable-infobars");
-                chromeOptions.addArguments("--disable-web-security");
-                chromeOptions.addArguments("--allow-running-insecure-content");
-                chromeOptions.addArguments("--ignore-certificate-errors");
-                
-                // CRITICAL: Disable automation flags
-                chromeOptions.setExperimentalOption("excludeSwitches", 
-                    java.util.Arrays.asList("enable-automation"));
-                chromeOptions.setExperimentalOption("useAutomationExtension", false);
-                
-                driver = new ChromeDriver(chromeOptions);
-                break;
-
-            case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
-                break;
-
-            case "edge":
-                WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
-                break;
-
-            default:
-                test.log(Status.FAIL, "Unsupported browser: " + browser);
-                throw new IllegalArgumentException("Browser not supported: " + browser);
+        try {
+            // A retry always starts on a new browser, never on a pooled session
+            driver.set(DriverPool.acquire(attempt > 0));
+        } catch (IllegalArgumentException e) {
+            test.log(Status.FAIL, "Unsupported browser: " + browser);
+            throw e;
         }
 
-        driver.manage().window().maximize();
-        
-        // Increased timeouts for Jenkins
-        driver.manage().timeouts().implicitlyWait(
-            Duration.ofSeconds(20)  // Increased from 15
-        );
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(60));
-        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(30));
+        // Block images/fonts/analytics unless the test opts back into full fidelity
+        if (NetworkProfile.startTest(getDriver(), isFullFidelity(result))) {
+            test.log(Status.INFO, "Network blocking: " + config.getProperty("network.block"));
+        }
 
         String url = config.getUrl();
-        driver.get(url);
+        getDriver().get(url);
         
-        // Wait for page to fully load
-        try {
-            Thread.sleep(2000);  // Initial page load wait
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        // Wait for page to fully load (replaces the 2000 ms initial sleep)
+        new WaitEngine(getDriver()).until(Conditions.documentReady(), 2000, "initial page load");
         
         test.log(Status.INFO, "Navigated to URL: " + url);
         System.out.println("✓ Browser opened: " + browser);
@@ -180,6 +214,7 @@ public class BaseTest {
     @AfterMethod
     public void tearDown(ITestResult result) {
         String testName = result.getMethod().getMethodName();
+        ExtentTest test = ExtentManager.getTest();
 
         if (result.getStatus() == ITestResult.SUCCESS) {
             test.log(Status.PASS, "✓ Test PASSED: " + testName);
@@ -191,7 +226,8 @@ public class BaseTest {
             System.out.println("✗ Test FAILED: " + testName);
             System.out.println("Reason: " + result.getThrowable().getMessage());
 
-            String screenshotPath = ScreenshotUtil.captureScreenshot(driver, testName);
+            // Written in the background so the driver is released without waiting for the disk
+            String screenshotPath = ScreenshotUtil.captureScreenshotAsync(getDriver(), testName);
             if (screenshotPath != null) {
                 try {
                     test.addScreenCaptureFromPath(screenshotPath);
@@ -201,27 +237,85 @@ public class BaseTest {
                 }
             }
         } 
+        else if (result.getStatus() == ITestResult.SKIP && result.wasRetried()) {
+            test.log(Status.WARNING, "✗ Attempt FAILED, retrying on a fresh session: " + testName);
+            test.log(Status.WARNING, "Failure Reason: " + result.getThrowable());
+            System.out.println("✗ Attempt FAILED, will be retried: " + testName);
+
+            String screenshotPath = ScreenshotUtil.captureScreenshotAsync(getDriver(), testName);
+            if (screenshotPath != null) {
+                try {
+                    test.addScreenCaptureFromPath(screenshotPath);
+                } catch (Exception e) {
+                    test.log(Status.WARNING, "Failed to attach screenshot");
+                }
+            }
+        }
         else if (result.getStatus() == ITestResult.SKIP) {
             test.log(Status.SKIP, "⊘ Test SKIPPED: " + testName);
             test.log(Status.SKIP, "Skip Reason: " + result.getThrowable());
             System.out.println("⊘ Test SKIPPED: " + testName);
         }
 
-        if (driver != null) {
-            driver.quit();
-            test.log(Status.INFO, "Browser closed");
-            System.out.println("✓ Browser closed");
+        // A gate stays open while its failure is being retried
+        if (!result.wasRetried()) {
+            GateRegistry.recordResult(result.getMethod().getConstructorOrMethod().getMethod(),
+                result.getStatus() == ITestResult.SUCCESS);
         }
+        gateSkipReason.remove();
 
+        if (getDriver() != null) {
+            test.log(Status.INFO, NetworkProfile.getTestSummary(getDriver()));
+        }
+
+        long savedMillis = WaitEngine.getSavedMillis();
+        test.log(Status.INFO, "Wait engine saved " + savedMillis + " ms of fixed sleeps");
+        System.out.println("✓ Wait engine saved " + savedMillis + " ms of fixed sleeps");
+
+        String pageSummary = PageRegistry.endFlow();
+        if (pageSummary != null) {
+            test.log(Status.INFO, pageSummary);
+        }
+
+        if (getDriver() != null) {
+            GridExecution.recordTest(getDriver(), result.getEndMillis() - result.getStartMillis());
+
+            // Crashed sessions and sessions of retried attempts are dropped, healthy ones go back to the pool
+            boolean crashed = DriverPool.isSessionFailure(result.getThrowable());
+            DriverPool.release(getDriver(), !crashed && !result.wasRetried());
+            driver.remove();
+            test.log(Status.INFO, "Browser session released");
+        }
+
+        // In streaming mode the node goes to the event log and leaves the heap
+        ExtentManager.completeTest(test);
+        RetryAnalyzer.endAttempt(result);
         System.out.println("----------------------------------------");
     }
 
+    private boolean isFullFidelity(ITestResult result) {
+        return result.getMethod().getConstructorOrMethod().getMethod().isAnnotationPresent(FullFidelity.class)
+            || result.getTestClass().getRealClass().isAnnotationPresent(FullFidelity.class);
+    }
+
     @AfterSuite
     public void tearDownSuite() {
+        DriverPool.shutdown();
+        ExtentManager.setSystemInfo("Driver Pool", DriverPool.getStats());
+        CommandMetrics.publish();
+        PageRegistry.publish();
+        ElementCache.publish();
+        GridExecution.publish();
+        GateRegistry.publish(DurationScheduler::estimateMillis);
+        FlakeHistory.publish(RetryAnalyzer.getStats());
+        DurationScheduler.publish();
+        NetworkProfile.saveSizes();
+        ScreenshotUtil.flush(30);
         ExtentManager.flushReports();
         System.out.println("========================================");
         System.out.println("    TEST SUITE EXECUTION COMPLETED");
         System.out.println("========================================");
+        System.out.println("✓ Driver pool: " + DriverPool.getStats());
         System.out.println("✓ Reports generated successfully!");
     }
 }
\ No newline at end of file
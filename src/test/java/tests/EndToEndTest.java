@@ -8,22 +8,21 @@ import pages.CheckoutPage;
 import pages.LoginPage;
 import pages.ProductsPage;
 import utils.ExtentManager;
+import utils.GatedBy;
 
 /**
  * EndToEndTest class - Contains complete end-to-end test scenarios
  * Tests cover full user journeys from login to order completion
  */
+@GatedBy("login")
 public class EndToEndTest extends BaseTest {
 
     @Test(priority = 1, description = "Complete purchase flow: Login → Add to Cart → Checkout → Complete Order")
     public void testCompletePurchaseFlow() {
         // Step 1: Login
         ExtentManager.getTest().log(Status.INFO, "Step 1: Login with valid credentials");
-        LoginPage loginPage = new LoginPage(driver);
-        ProductsPage productsPage = loginPage.login(
-            config.getProperty("username"),
-            config.getProperty("password")
-        );
+        LoginPage loginPage = page(LoginPage.class);
+        ProductsPage productsPage = loginPage.loginWithSession("username");
         Assert.assertTrue(productsPage.isProductsPageLoaded(), "Login failed - Products page not loaded");
         ExtentManager.getTest().log(Status.PASS, "✓ Login successful");
 
@@ -77,11 +76,8 @@ public class EndToEndTest extends BaseTest {
         ExtentManager.getTest().log(Status.INFO, "Testing single product purchase flow");
 
         // Login
-        LoginPage loginPage = new LoginPage(driver);
-        ProductsPage productsPage = loginPage.login(
-            config.getProperty("username"),
-            config.getProperty("password")
-        );
+        LoginPage loginPage = page(LoginPage.class);
+        ProductsPage productsPage = loginPage.loginWithSession("username");
 
         // Add single product
         productsPage.addProductToCartByName("Sauce Labs Backpack");
@@ -103,11 +99,8 @@ public class EndToEndTest extends BaseTest {
         ExtentManager.getTest().log(Status.INFO, "Testing cart modification flow");
 
         // Login and add products
-        LoginPage loginPage = new LoginPage(driver);
-        ProductsPage productsPage = loginPage.login(
-            config.getProperty("username"),
-            config.getProperty("password")
-        );
+        LoginPage loginPage = page(LoginPage.class);
+        ProductsPage productsPage = loginPage.loginWithSession("username");
         productsPage.addProductToCartByIndex(0);
         productsPage.addProductToCartByIndex(1);
         productsPage.addProductToCartByIndex(2);
@@ -137,16 +130,11 @@ public class EndToEndTest extends BaseTest {
         ExtentManager.getTest().log(Status.INFO, "Testing purchase of all products");
 
         // Login
-        LoginPage loginPage = new LoginPage(driver);
-        ProductsPage productsPage = loginPage.login(
-            config.getProperty("username"),
-            config.getProperty("password")
-        );
+        LoginPage loginPage = page(LoginPage.class);
+        ProductsPage productsPage = loginPage.loginWithSession("username");
 
         // Add all products
-        for (int i = 0; i < 6; i++) {
-            productsPage.addProductToCartByIndex(i);
-        }
+        productsPage.addAllProducts();
         Assert.assertEquals(productsPage.getCartItemCount(), "6");
 
         // Complete purchase
@@ -169,11 +157,8 @@ public class EndToEndTest extends BaseTest {
         ExtentManager.getTest().log(Status.INFO, "Testing checkout with incomplete information");
 
         // Login and add product
-        LoginPage loginPage = new LoginPage(driver);
-        ProductsPage productsPage = loginPage.login(
-            config.getProperty("username"),
-            config.getProperty("password")
-        );
+        LoginPage loginPage = page(LoginPage.class);
+        ProductsPage productsPage = loginPage.loginWithSession("username");
         productsPage.addFirstProductToCart();
 
         // Go to checkout without filling information
@@ -191,11 +176,8 @@ public class EndToEndTest extends BaseTest {
         ExtentManager.getTest().log(Status.INFO, "Testing complete flow with logout");
 
         // Complete purchase
-        LoginPage loginPage = new LoginPage(driver);
-        ProductsPage productsPage = loginPage.login(
-            config.getProperty("username"),
-            config.getProperty("password")
-        );
+        LoginPage loginPage = page(LoginPage.class);
+        ProductsPage productsPage = loginPage.loginWithSession("username");
         productsPage.addFirstProductToCart();
         CartPage cartPage = productsPage.clickCartIcon();
         CheckoutPage checkoutPage = cartPage.clickCheckout();
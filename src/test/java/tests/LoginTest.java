@@ -6,6 +6,7 @@ import com.aventstack.extentreports.Status;
 import pages.LoginPage;
 import pages.ProductsPage;
 import utils.ExtentManager;
+import utils.Gate;
 
 /**
  * LoginTest class - Contains all test cases related to Login functionality
@@ -13,10 +14,11 @@ import utils.ExtentManager;
  */
 public class LoginTest extends BaseTest {
 
+    @Gate("login")
     @Test(priority = 1, description = "Verify successful login with valid credentials")
     public void testValidLogin() {
         ExtentManager.getTest().log(Status.INFO, "Step 1: Enter valid username and password");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = page(LoginPage.class);
         ProductsPage productsPage = loginPage.login(
             config.getProperty("username"), 
             config.getProperty("password")
@@ -34,7 +36,7 @@ public class LoginTest extends BaseTest {
     @Test(priority = 2, description = "Verify login failure with locked out user")
     public void testLockedOutUser() {
         ExtentManager.getTest().log(Status.INFO, "Step 1: Enter locked out user credentials");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = page(LoginPage.class);
         loginPage.login(
             config.getProperty("locked_user"), 
             config.getProperty("password")
@@ -54,7 +56,7 @@ public class LoginTest extends BaseTest {
     @Test(priority = 3, description = "Verify login failure with invalid username")
     public void testInvalidUsername() {
         ExtentManager.getTest().log(Status.INFO, "Step 1: Enter invalid username");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = page(LoginPage.class);
         loginPage.login(
             config.getProperty("invalid_username"), 
             config.getProperty("password")
@@ -74,7 +76,7 @@ public class LoginTest extends BaseTest {
     @Test(priority = 4, description = "Verify login failure with invalid password")
     public void testInvalidPassword() {
         ExtentManager.getTest().log(Status.INFO, "Step 1: Enter valid username but invalid password");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = page(LoginPage.class);
         loginPage.login(
             config.getProperty("username"), 
             config.getProperty("invalid_password")
@@ -89,7 +91,7 @@ public class LoginTest extends BaseTest {
     @Test(priority = 5, description = "Verify login failure with empty credentials")
     public void testEmptyCredentials() {
         ExtentManager.getTest().log(Status.INFO, "Step 1: Click login without entering any credentials");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = page(LoginPage.class);
         loginPage.clickLoginButton();
 
         ExtentManager.getTest().log(Status.INFO, "Step 2: Verify error message is displayed");
@@ -106,7 +108,7 @@ public class LoginTest extends BaseTest {
     @Test(priority = 6, description = "Verify login failure with empty password")
     public void testEmptyPassword() {
         ExtentManager.getTest().log(Status.INFO, "Step 1: Enter username but leave password empty");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = page(LoginPage.class);
         loginPage.enterUsername(config.getProperty("username"));
         loginPage.clickLoginButton();
 
@@ -124,7 +126,7 @@ public class LoginTest extends BaseTest {
     @Test(priority = 7, description = "Verify login page UI elements are present")
     public void testLoginPageElements() {
         ExtentManager.getTest().log(Status.INFO, "Step 1: Verify all login page elements are displayed");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = page(LoginPage.class);
         
         Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page is not displayed");
         Assert.assertTrue(loginPage.verifyLoginPageElements(), "Login page elements are not displayed");